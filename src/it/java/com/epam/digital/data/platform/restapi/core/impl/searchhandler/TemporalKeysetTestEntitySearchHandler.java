@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.impl.searchhandler;
+
+import com.epam.digital.data.platform.restapi.core.impl.model.KeysetTestEntitySearchConditions;
+import com.epam.digital.data.platform.restapi.core.impl.model.TestEntity;
+import com.epam.digital.data.platform.restapi.core.searchhandler.AbstractSearchHandler;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.SelectFieldOrAsterisk;
+import org.jooq.impl.DSL;
+
+public class TemporalKeysetTestEntitySearchHandler
+    extends AbstractSearchHandler<KeysetTestEntitySearchConditions, TestEntity> {
+
+  @Override
+  protected Condition whereClause(KeysetTestEntitySearchConditions searchConditions) {
+    return DSL.noCondition();
+  }
+
+  @Override
+  public String tableName() {
+    return "test_entity";
+  }
+
+  @Override
+  public Class<TestEntity> entityType() {
+    return TestEntity.class;
+  }
+
+  @Override
+  public List<SelectFieldOrAsterisk> selectFields() {
+    return Arrays.asList(
+        DSL.field("id"),
+        DSL.field("consent_date"),
+        DSL.field("ddm_created_at"),
+        DSL.field("person_full_name"));
+  }
+
+  @Override
+  protected List<Field<?>> keysetFields() {
+    return List.of(
+        DSL.field("consent_date", OffsetDateTime.class),
+        DSL.field("ddm_created_at", LocalDateTime.class),
+        DSL.field("id", UUID.class));
+  }
+
+  @Override
+  protected String cursor(KeysetTestEntitySearchConditions searchConditions) {
+    return searchConditions.getCursor();
+  }
+
+  @Override
+  public Integer limit(KeysetTestEntitySearchConditions searchConditions) {
+    return searchConditions.getPageSize();
+  }
+}
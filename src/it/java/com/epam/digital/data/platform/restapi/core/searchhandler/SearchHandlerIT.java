@@ -4,20 +4,28 @@ import static com.epam.digital.data.platform.restapi.core.util.DaoTestUtils.TEST
 import static com.epam.digital.data.platform.restapi.core.util.DaoTestUtils.TEST_SINGLE_FIELD_ENTITY;
 import static com.epam.digital.data.platform.restapi.core.util.SearchHandlerTestUtil.mockRequest;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.epam.digital.data.platform.model.core.kafka.Request;
 import com.epam.digital.data.platform.model.core.search.SearchConditionPage;
 import com.epam.digital.data.platform.restapi.core.config.TestConfiguration;
+import com.epam.digital.data.platform.restapi.core.exception.InvalidCursorException;
+import com.epam.digital.data.platform.restapi.core.impl.model.KeysetTestEntitySearchConditions;
 import com.epam.digital.data.platform.restapi.core.impl.model.PagingTestEntitySearchConditions;
 import com.epam.digital.data.platform.restapi.core.impl.model.TestEntity;
 import com.epam.digital.data.platform.restapi.core.impl.model.TestEntitySearchConditions;
 import com.epam.digital.data.platform.restapi.core.impl.model.TestSingleFieldEntity;
 import com.epam.digital.data.platform.restapi.core.impl.model.TestSingleFieldEntitySearchConditions;
 import com.epam.digital.data.platform.restapi.core.impl.model.TypGender;
+import com.epam.digital.data.platform.restapi.core.impl.searchhandler.KeysetTestEntitySearchHandler;
 import com.epam.digital.data.platform.restapi.core.impl.searchhandler.PagingTestEntitySearchHandler;
+import com.epam.digital.data.platform.restapi.core.impl.searchhandler.TemporalKeysetTestEntitySearchHandler;
 import com.epam.digital.data.platform.restapi.core.impl.searchhandler.TestEntitySearchHandler;
 
 import com.epam.digital.data.platform.restapi.core.impl.searchhandler.TestSingleFieldEntitySearchHandler;
+import com.epam.digital.data.platform.restapi.core.model.KeysetSearchConditionPage;
+import java.util.ArrayList;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,7 +36,9 @@ import org.springframework.boot.test.context.SpringBootTest;
     classes = {
       TestEntitySearchHandler.class,
       TestSingleFieldEntitySearchHandler.class,
-      PagingTestEntitySearchHandler.class
+      PagingTestEntitySearchHandler.class,
+      KeysetTestEntitySearchHandler.class,
+      TemporalKeysetTestEntitySearchHandler.class
     })
 class SearchHandlerIT {
 
@@ -40,6 +50,10 @@ class SearchHandlerIT {
   TestSingleFieldEntitySearchHandler singleFieldEntitySearchHandlerInstance;
   @Autowired
   PagingTestEntitySearchHandler pagingInstance;
+  @Autowired
+  KeysetTestEntitySearchHandler keysetInstance;
+  @Autowired
+  TemporalKeysetTestEntitySearchHandler temporalKeysetInstance;
 
   TestEntitySearchConditions searchCriteria;
   TestSingleFieldEntitySearchConditions searchSingleFieldCriteria;
@@ -106,4 +120,48 @@ class SearchHandlerIT {
     assertThat(found.getTotalPages()).isEqualTo(2);
     assertThat(found.getTotalElements()).isEqualTo(2);
   }
+
+  @Test
+  void shouldReadAllPagesWithKeysetCursor() {
+    var keysetSearchCriteria = new KeysetTestEntitySearchConditions();
+    keysetSearchCriteria.setPageSize(1);
+    var keysetRequest = mockRequest(keysetSearchCriteria);
+    var ids = new ArrayList<UUID>();
+
+    KeysetSearchConditionPage<TestEntity> found;
+    do {
+      found = (KeysetSearchConditionPage<TestEntity>) keysetInstance.search(keysetRequest);
+      found.getContent().forEach(entity -> ids.add(entity.getId()));
+      keysetSearchCriteria.setCursor(found.getNextCursor());
+    } while (found.getNextCursor() != null);
+
+    assertThat(ids).hasSize(3).doesNotHaveDuplicates();
+    assertThat(found.getPageSize()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReadAllPagesWithTemporalKeysetCursor() {
+    var keysetSearchCriteria = new KeysetTestEntitySearchConditions();
+    keysetSearchCriteria.setPageSize(1);
+    var keysetRequest = mockRequest(keysetSearchCriteria);
+    var ids = new ArrayList<UUID>();
+
+    KeysetSearchConditionPage<TestEntity> found;
+    do {
+      found = (KeysetSearchConditionPage<TestEntity>) temporalKeysetInstance.search(keysetRequest);
+      found.getContent().forEach(entity -> ids.add(entity.getId()));
+      keysetSearchCriteria.setCursor(found.getNextCursor());
+    } while (found.getNextCursor() != null && ids.size() <= 3);
+
+    assertThat(ids).hasSize(3).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void shouldRejectMalformedKeysetCursor() {
+    var keysetSearchCriteria = new KeysetTestEntitySearchConditions();
+    keysetSearchCriteria.setCursor("not a cursor");
+    var keysetRequest = mockRequest(keysetSearchCriteria);
+
+    assertThrows(InvalidCursorException.class, () -> keysetInstance.search(keysetRequest));
+  }
 }
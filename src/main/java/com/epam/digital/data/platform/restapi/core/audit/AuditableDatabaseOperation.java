@@ -28,6 +28,6 @@ public @interface AuditableDatabaseOperation {
   Operation value();
 
   enum Operation {
-    READ, SEARCH
+    READ, READ_ALL, SEARCH
   }
 }
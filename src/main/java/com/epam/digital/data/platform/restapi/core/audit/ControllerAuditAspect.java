@@ -21,13 +21,18 @@ import com.epam.digital.data.platform.model.core.kafka.SecurityContext;
 import com.epam.digital.data.platform.restapi.core.exception.AuditException;
 import com.epam.digital.data.platform.restapi.core.model.DetailedErrorResponse;
 import com.epam.digital.data.platform.restapi.core.model.audit.ExceptionAuditEvent;
+import com.epam.digital.data.platform.restapi.core.utils.MdcUtils;
 import com.epam.digital.data.platform.restapi.core.utils.ResponseCode;
 import com.epam.digital.data.platform.starter.audit.model.EventType;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -36,6 +41,7 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.MDC;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -43,6 +49,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @Aspect
 @Component
@@ -78,6 +85,8 @@ public class ControllerAuditAspect {
   static final String AFTER = "AFTER";
 
   private final RestAuditEventsFacade restAuditEventsFacade;
+  private final Map<Method, Class<? extends Annotation>> mappingAnnotations =
+      new ConcurrentHashMap<>();
 
   public ControllerAuditAspect(RestAuditEventsFacade restAuditEventsFacade) {
     this.restAuditEventsFacade = restAuditEventsFacade;
@@ -139,9 +148,12 @@ public class ControllerAuditAspect {
   }
 
   private Class<? extends Annotation> getAnnotation(ProceedingJoinPoint joinPoint) {
-    var annotations = Arrays.stream(((MethodSignature) joinPoint.getSignature())
-            .getMethod()
-            .getAnnotations())
+    return mappingAnnotations.computeIfAbsent(
+        ((MethodSignature) joinPoint.getSignature()).getMethod(), this::resolveMappingAnnotation);
+  }
+
+  private Class<? extends Annotation> resolveMappingAnnotation(Method method) {
+    var annotations = Arrays.stream(method.getAnnotations())
         .map(Annotation::annotationType)
         .collect(Collectors.toCollection(ArrayList::new));
 
@@ -194,11 +206,40 @@ public class ControllerAuditAspect {
 
     Object result = joinPoint.proceed();
 
-    var resultStatus = ((ResponseEntity<?>) result).getStatusCode().getReasonPhrase();
+    if (result instanceof CompletionStage) {
+      var mdcContext = MDC.getCopyOfContextMap();
+      return ((CompletionStage<?>) result).whenComplete((response, throwable) -> {
+        if (throwable == null) {
+          sendAsyncAfterRestAudit(methodName, action, jwt, id, response, mdcContext);
+        }
+      });
+    }
+    if (result instanceof DeferredResult) {
+      var deferredResult = (DeferredResult<?>) result;
+      var mdcContext = MDC.getCopyOfContextMap();
+      deferredResult.onCompletion(() -> sendAsyncAfterRestAudit(methodName, action, jwt, id,
+          deferredResult.getResult(), mdcContext));
+      return result;
+    }
+
+    sendAfterRestAudit(methodName, action, jwt, id, result);
+    return result;
+  }
+
+  private void sendAsyncAfterRestAudit(String methodName, String action, String jwt, Object id,
+      Object response, Map<String, String> mdcContext) {
+    if (!(response instanceof ResponseEntity)) {
+      return;
+    }
+    MdcUtils.runWithMdc(mdcContext,
+        () -> sendAfterRestAudit(methodName, action, jwt, id, response));
+  }
+
+  private void sendAfterRestAudit(String methodName, String action, String jwt, Object id,
+      Object response) {
+    var resultStatus = ((ResponseEntity<?>) response).getStatusCode().getReasonPhrase();
 
     restAuditEventsFacade.sendRestAudit(EventType.USER_ACTION, methodName,
         action, jwt, AFTER, id, resultStatus);
-
-    return result;
   }
 }
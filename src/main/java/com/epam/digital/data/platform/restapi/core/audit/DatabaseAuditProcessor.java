@@ -16,12 +16,17 @@
 
 package com.epam.digital.data.platform.restapi.core.audit;
 
+import static java.util.stream.Collectors.joining;
+
 import com.epam.digital.data.platform.model.core.kafka.Request;
 import com.epam.digital.data.platform.restapi.core.audit.AuditableDatabaseOperation.Operation;
 import com.epam.digital.data.platform.restapi.core.converter.EntityConverter;
 import com.epam.digital.data.platform.restapi.core.exception.AuditException;
 import com.epam.digital.data.platform.restapi.core.service.JwtInfoProvider;
 import com.epam.digital.data.platform.starter.security.dto.JwtClaimsDto;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -36,12 +41,15 @@ public class DatabaseAuditProcessor implements AuditProcessor<Operation> {
 
   // action
   static final String READ = "SELECT FROM TABLE";
+  static final String READ_ALL = "SELECT ALL FROM TABLE";
   static final String SEARCH = "SEARCH";
 
   // step
   static final String BEFORE = "BEFORE";
   static final String AFTER = "AFTER";
 
+  static final int MAX_AUDITED_IDS = 100;
+
   private final DatabaseEventsFacade databaseEventsFacade;
   private final JwtInfoProvider jwtInfoProvider;
   private final EntityConverter<Object> entityConverter;
@@ -60,6 +68,8 @@ public class DatabaseAuditProcessor implements AuditProcessor<Operation> {
     switch (operation) {
       case READ:
         return findById(joinPoint);
+      case READ_ALL:
+        return findByIds(joinPoint);
       case SEARCH:
         return search(joinPoint);
       default:
@@ -76,6 +86,21 @@ public class DatabaseAuditProcessor implements AuditProcessor<Operation> {
     return prepareAndSendDbAudit(joinPoint, READ, userClaims, null, entityId);
   }
 
+  /**
+   * A batch read is audited as one event pair instead of a pair per id. Only the first
+   * {@value #MAX_AUDITED_IDS} ids are listed, followed by the number of ids left out.
+   */
+  private Object findByIds(ProceedingJoinPoint joinPoint) throws Throwable {
+    var request = getArgumentByType(joinPoint, Request.class);
+
+    var userClaims = jwtInfoProvider.getUserClaims(request);
+    var entityIds = Optional.ofNullable((Collection<?>) request.getPayload())
+        .map(this::toAuditedIds)
+        .orElse(null);
+
+    return prepareAndSendDbAudit(joinPoint, READ_ALL, userClaims, null, entityIds);
+  }
+
   private Object search(ProceedingJoinPoint joinPoint) throws Throwable {
     var request = getArgumentByType(joinPoint, Request.class);
 
@@ -97,16 +122,37 @@ public class DatabaseAuditProcessor implements AuditProcessor<Operation> {
 
     Object result = joinPoint.proceed();
 
+    String rowCount = null;
     if (action.equals(READ)) {
       fields = ((Optional<?>) result).map(this::getFields).orElse(null);
+    } else if (action.equals(READ_ALL)) {
+      var rows = (List<?>) result;
+      fields = getRowFields(rows);
+      rowCount = String.valueOf(rows.size());
     }
 
     log.debug("Sending {} completed event to Audit", action);
     databaseEventsFacade
-        .sendDbAudit(methodName, null, action, userClaims, AFTER, entityId, fields, null);
+        .sendDbAudit(methodName, null, action, userClaims, AFTER, entityId, fields, rowCount);
     return result;
   }
 
+  private String toAuditedIds(Collection<?> ids) {
+    var audited = ids.stream().limit(MAX_AUDITED_IDS).map(String::valueOf).collect(joining(","));
+    if (ids.size() > MAX_AUDITED_IDS) {
+      audited += ",...(+" + (ids.size() - MAX_AUDITED_IDS) + " more)";
+    }
+    return audited;
+  }
+
+  private Set<String> getRowFields(List<?> dtos) {
+    Set<String> fields = new HashSet<>();
+    for (Object dto : dtos) {
+      Optional.ofNullable(getFields(dto)).ifPresent(fields::addAll);
+    }
+    return fields.isEmpty() ? null : fields;
+  }
+
 
   private Set<String> getFields(Object dto) {
     if (dto == null) {
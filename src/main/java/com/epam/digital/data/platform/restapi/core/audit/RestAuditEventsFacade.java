@@ -17,12 +17,12 @@
 package com.epam.digital.data.platform.restapi.core.audit;
 
 import com.epam.digital.data.platform.restapi.core.model.audit.ExceptionAuditEvent;
+import com.epam.digital.data.platform.restapi.core.service.JwtInfoProvider;
 import com.epam.digital.data.platform.restapi.core.service.TraceProvider;
 import com.epam.digital.data.platform.starter.audit.model.AuditUserInfo;
 import com.epam.digital.data.platform.starter.audit.model.EventType;
 import com.epam.digital.data.platform.starter.audit.service.AbstractAuditFacade;
 import com.epam.digital.data.platform.starter.audit.service.AuditService;
-import com.epam.digital.data.platform.starter.security.jwt.TokenParser;
 import java.time.Clock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,7 +39,7 @@ public class RestAuditEventsFacade extends AbstractAuditFacade {
 
   private final TraceProvider traceProvider;
   private final AuditSourceInfoProvider auditSourceInfoProvider;
-  private final TokenParser tokenParser;
+  private final JwtInfoProvider jwtInfoProvider;
 
   public RestAuditEventsFacade(
       AuditService auditService,
@@ -47,11 +47,11 @@ public class RestAuditEventsFacade extends AbstractAuditFacade {
       Clock clock,
       TraceProvider traceProvider,
       AuditSourceInfoProvider auditSourceInfoProvider,
-      TokenParser tokenParser) {
+      JwtInfoProvider jwtInfoProvider) {
     super(auditService, appName, clock);
     this.traceProvider = traceProvider;
     this.auditSourceInfoProvider = auditSourceInfoProvider;
-    this.tokenParser = tokenParser;
+    this.jwtInfoProvider = jwtInfoProvider;
   }
 
   public void sendExceptionAudit(ExceptionAuditEvent exceptionAuditEvent) {
@@ -97,7 +97,7 @@ public class RestAuditEventsFacade extends AbstractAuditFacade {
       return;
     }
 
-    var jwtClaimsDto = tokenParser.parseClaims(jwt);
+    var jwtClaimsDto = jwtInfoProvider.parseClaims(jwt);
     var userInfo = AuditUserInfo.AuditUserInfoBuilder.anAuditUserInfo()
             .userName(jwtClaimsDto.getFullName())
             .userKeycloakId(jwtClaimsDto.getSubject())
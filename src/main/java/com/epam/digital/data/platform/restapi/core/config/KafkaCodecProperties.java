@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.config;
+
+import com.epam.digital.data.platform.restapi.core.converter.kafka.KafkaPayloadCodec;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "data-platform.kafka-request.codec")
+public class KafkaCodecProperties {
+
+  private Map<String, KafkaPayloadCodec> request = new HashMap<>();
+  private Map<String, KafkaPayloadCodec> reply = new HashMap<>();
+
+  public Map<String, KafkaPayloadCodec> getRequest() {
+    return request;
+  }
+
+  public void setRequest(Map<String, KafkaPayloadCodec> request) {
+    this.request = request;
+  }
+
+  public Map<String, KafkaPayloadCodec> getReply() {
+    return reply;
+  }
+
+  public void setReply(Map<String, KafkaPayloadCodec> reply) {
+    this.reply = reply;
+  }
+}
@@ -17,10 +17,64 @@
 package com.epam.digital.data.platform.restapi.core.config;
 
 import com.epam.digital.data.platform.dso.client.DigitalSealRestClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * Runs the digital signature Feign clients on a pooled Apache client configured with the standard
+ * {@code feign.httpclient.*} properties. The pooled {@link feign.Client} is only registered in
+ * the Feign context of those clients, any other Feign client keeps Feign's default client.
+ * Timeouts are not changed here, use
+ * {@code feign.client.config.<client-name>.connect-timeout/read-timeout} to tune them per client.
+ * Pool usage is published under the {@code httpcomponents.httpclient.pool.*} meters.
+ */
 @Configuration
-@EnableFeignClients(clients = {DigitalSealRestClient.class})
+@EnableFeignClients(
+    clients = {DigitalSealRestClient.class},
+    defaultConfiguration = SignatureFeignClientConfiguration.class)
 public class RestClientConfig {
+
+  static final String POOL_NAME = "digital-signature-ops";
+
+  @Bean(destroyMethod = "shutdown")
+  public PoolingHttpClientConnectionManager signatureConnectionManager(
+      FeignHttpClientProperties httpClientProperties, MeterRegistry meterRegistry) {
+    var connectionManager = new PoolingHttpClientConnectionManager(
+        httpClientProperties.getTimeToLive(), httpClientProperties.getTimeToLiveUnit());
+    connectionManager.setMaxTotal(httpClientProperties.getMaxConnections());
+    connectionManager.setDefaultMaxPerRoute(httpClientProperties.getMaxConnectionsPerRoute());
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME)
+        .bindTo(meterRegistry);
+    return connectionManager;
+  }
+
+  /**
+   * Declaring this bean also keeps Spring Cloud from switching every Feign client to its own
+   * Apache client.
+   */
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient signatureHttpClient(
+      PoolingHttpClientConnectionManager signatureConnectionManager,
+      FeignHttpClientProperties httpClientProperties) {
+    var requestConfig = RequestConfig.custom()
+        .setConnectTimeout(httpClientProperties.getConnectionTimeout())
+        .setRedirectsEnabled(httpClientProperties.isFollowRedirects())
+        .build();
+    return HttpClients.custom()
+        .setConnectionManager(signatureConnectionManager)
+        .setDefaultRequestConfig(requestConfig)
+        .evictExpiredConnections()
+        .evictIdleConnections(
+            httpClientProperties.getTimeToLive(), httpClientProperties.getTimeToLiveUnit())
+        .disableCookieManagement()
+        .build();
+  }
 }
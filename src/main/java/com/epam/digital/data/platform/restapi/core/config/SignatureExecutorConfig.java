@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.config;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Configuration
+public class SignatureExecutorConfig {
+
+  /**
+   * Executor for the signature copying done by the digital signature validation filter. Tasks
+   * run with the MDC and the request attributes of the submitting thread; when the executor is
+   * saturated the task is run by the caller instead of being rejected.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor signatureCopyExecutor(
+      @Value("${data-platform.signature.copy-executor.pool-size:8}") int poolSize,
+      @Value("${data-platform.signature.copy-executor.queue-capacity:100}") int queueCapacity) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("signature-copy-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setTaskDecorator(requestContextTaskDecorator());
+    return executor;
+  }
+
+  private TaskDecorator requestContextTaskDecorator() {
+    return runnable -> {
+      var mdcContext = MDC.getCopyOfContextMap();
+      var requestAttributes = RequestContextHolder.getRequestAttributes();
+      return () -> {
+        var previousMdcContext = MDC.getCopyOfContextMap();
+        var previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+        setMdcContext(mdcContext);
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+          runnable.run();
+        } finally {
+          setMdcContext(previousMdcContext);
+          RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+        }
+      };
+    };
+  }
+
+  private void setMdcContext(Map<String, String> context) {
+    if (context == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(context);
+    }
+  }
+}
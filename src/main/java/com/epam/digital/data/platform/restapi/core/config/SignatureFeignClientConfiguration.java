@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.config;
+
+import com.epam.digital.data.platform.dso.client.DigitalSealRestClient;
+import feign.Client;
+import feign.httpclient.ApacheHttpClient;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.util.StringUtils;
+
+/**
+ * Default configuration of the Feign client contexts. It is applied to every Feign client, but
+ * the pooled client is only created in the context of the signature clients. Not annotated with
+ * {@code @Configuration} so it is never picked up by the application context itself.
+ */
+class SignatureFeignClientConfiguration {
+
+  @Bean
+  @Conditional(SignatureClientCondition.class)
+  public Client signatureFeignClient(CloseableHttpClient signatureHttpClient) {
+    return new ApacheHttpClient(signatureHttpClient);
+  }
+
+  /**
+   * Matches the Feign context of {@link DigitalSealRestClient}, which is named the way
+   * {@code FeignClientsRegistrar} names it: by the contextId, otherwise by the name of its
+   * {@link FeignClient}.
+   */
+  static class SignatureClientCondition implements Condition {
+
+    static final String CLIENT_NAME_PROPERTY = "feign.client.name";
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      var clientName = context.getEnvironment().getProperty(CLIENT_NAME_PROPERTY);
+      var feignClient = AnnotatedElementUtils.findMergedAnnotation(
+          DigitalSealRestClient.class, FeignClient.class);
+      if (clientName == null || feignClient == null) {
+        return false;
+      }
+      var signatureClientName = StringUtils.hasText(feignClient.contextId())
+          ? feignClient.contextId()
+          : feignClient.name();
+      return clientName.equals(context.getEnvironment().resolvePlaceholders(signatureClientName));
+    }
+  }
+}
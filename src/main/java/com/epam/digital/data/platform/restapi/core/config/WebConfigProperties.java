@@ -18,6 +18,7 @@ package com.epam.digital.data.platform.restapi.core.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +28,7 @@ import java.util.List;
 public class WebConfigProperties {
 
   private Filters filters = new Filters();
+  private BodyCache bodyCache = new BodyCache();
 
   public Filters getFilters() {
     return filters;
@@ -36,6 +38,14 @@ public class WebConfigProperties {
     this.filters = filters;
   }
 
+  public BodyCache getBodyCache() {
+    return bodyCache;
+  }
+
+  public void setBodyCache(BodyCache bodyCache) {
+    this.bodyCache = bodyCache;
+  }
+
   public static class Filters {
 
     private List<String> exclude = new ArrayList<>();
@@ -48,4 +58,22 @@ public class WebConfigProperties {
       this.exclude = exclude;
     }
   }
+
+  /**
+   * Limit for request bodies cached in memory by the signature filter, set with
+   * {@code data-platform.web.body-cache.max-size} (50MB by default). Bodies above the max size are
+   * rejected with 413 Payload Too Large, so services accepting larger uploads must raise it.
+   */
+  public static class BodyCache {
+
+    private DataSize maxSize = DataSize.ofMegabytes(50);
+
+    public DataSize getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+      this.maxSize = maxSize;
+    }
+  }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.controller;
+
+import com.epam.digital.data.platform.model.core.kafka.SecurityContext;
+import com.epam.digital.data.platform.restapi.core.annotation.HttpSecurityContext;
+import com.epam.digital.data.platform.restapi.core.exception.NoKafkaResponseException;
+import com.epam.digital.data.platform.restapi.core.exception.NotFoundException;
+import com.epam.digital.data.platform.restapi.core.model.KafkaOperationStatus;
+import com.epam.digital.data.platform.restapi.core.service.KafkaOperationService;
+import com.epam.digital.data.platform.restapi.core.utils.ResponseResolverUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(ResponseResolverUtil.KAFKA_OPERATIONS_PATH)
+@ConditionalOnProperty(
+    prefix = "data-platform.kafka-request.async-operations",
+    name = "enabled",
+    havingValue = "true")
+public class KafkaOperationController {
+
+  private final KafkaOperationService kafkaOperationService;
+
+  public KafkaOperationController(KafkaOperationService kafkaOperationService) {
+    this.kafkaOperationService = kafkaOperationService;
+  }
+
+  /**
+   * Returns {@code 202 Accepted} with the operation status while the reply is awaited, and the
+   * reply itself, resolved the same way as for the synchronous call, once it is received.
+   */
+  @GetMapping("/{operationId}")
+  public ResponseEntity<?> getOperation(
+      @PathVariable("operationId") String operationId,
+      @HttpSecurityContext SecurityContext securityContext) {
+    var operation = kafkaOperationService.get(operationId, securityContext)
+        .orElseThrow(() -> new NotFoundException("Kafka operation not found: " + operationId));
+
+    switch (operation.getState()) {
+      case PENDING:
+        return ResponseEntity.accepted()
+            .body(new KafkaOperationStatus(operationId, operation.getState()));
+      case FAILED:
+        throw new NoKafkaResponseException(
+            "Kafka operation " + operationId + " failed: " + operation.getError(), null);
+      default:
+        return ResponseResolverUtil.getHttpResponseFromKafka(operation.getResponse());
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.converter.kafka;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Wire format of Kafka request and reply payloads. The format is announced with the
+ * {@link #CONTENT_TYPE_HEADER} record header, records without it are treated as JSON so that old
+ * and new producers and consumers can be used side by side.
+ */
+public enum KafkaPayloadCodec {
+
+  JSON("application/json", null),
+  SMILE("application/x-jackson-smile", SmileFactory::new),
+  CBOR("application/cbor", CBORFactory::new);
+
+  public static final String CONTENT_TYPE_HEADER = "content-type";
+  public static final String REPLY_CONTENT_TYPE_HEADER = "reply-content-type";
+
+  private final String contentType;
+  private final Supplier<JsonFactory> binaryFactory;
+
+  KafkaPayloadCodec(String contentType, Supplier<JsonFactory> binaryFactory) {
+    this.contentType = contentType;
+    this.binaryFactory = binaryFactory;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  /**
+   * Object mapper for the codec with the modules and settings of the given application object
+   * mapper. JSON uses the application object mapper itself.
+   */
+  public ObjectMapper createObjectMapper(ObjectMapper applicationObjectMapper) {
+    if (binaryFactory == null) {
+      return applicationObjectMapper;
+    }
+    return applicationObjectMapper.copyWith(binaryFactory.get());
+  }
+
+  /**
+   * Resolves the codec announced with the content type header.
+   *
+   * @throws IllegalArgumentException if the content type is not supported
+   */
+  public static KafkaPayloadCodec fromContentType(String contentType) {
+    return Arrays.stream(values())
+        .filter(codec -> codec.contentType.equalsIgnoreCase(contentType))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException(
+            "Unsupported Kafka payload content type: " + contentType));
+  }
+}
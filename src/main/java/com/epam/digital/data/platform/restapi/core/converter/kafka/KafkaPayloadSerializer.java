@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.converter.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.EnumMap;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka value serializer that encodes the payload with the codec configured for the target topic
+ * and stamps the {@link KafkaPayloadCodec#CONTENT_TYPE_HEADER} header. Topics without a configured
+ * codec are serialized as JSON. All codecs share the modules and settings of the application object
+ * mapper.
+ */
+public class KafkaPayloadSerializer<T> implements Serializer<T> {
+
+  private final Map<String, KafkaPayloadCodec> topicCodecs;
+  private final Map<KafkaPayloadCodec, ObjectMapper> objectMappers =
+      new EnumMap<>(KafkaPayloadCodec.class);
+
+  public KafkaPayloadSerializer(
+      Map<String, KafkaPayloadCodec> topicCodecs, ObjectMapper applicationObjectMapper) {
+    this.topicCodecs = topicCodecs;
+    for (var codec : KafkaPayloadCodec.values()) {
+      objectMappers.put(codec, codec.createObjectMapper(applicationObjectMapper));
+    }
+  }
+
+  @Override
+  public byte[] serialize(String topic, T data) {
+    return serialize(getCodec(topic), data);
+  }
+
+  @Override
+  public byte[] serialize(String topic, Headers headers, T data) {
+    var codec = getCodec(topic);
+    headers.remove(KafkaPayloadCodec.CONTENT_TYPE_HEADER);
+    headers.add(KafkaPayloadCodec.CONTENT_TYPE_HEADER, codec.getContentType().getBytes(UTF_8));
+    return serialize(codec, data);
+  }
+
+  private KafkaPayloadCodec getCodec(String topic) {
+    return topicCodecs.getOrDefault(topic, KafkaPayloadCodec.JSON);
+  }
+
+  private byte[] serialize(KafkaPayloadCodec codec, T data) {
+    if (data == null) {
+      return null;
+    }
+    try {
+      return objectMappers.get(codec).writeValueAsBytes(data);
+    } catch (JsonProcessingException e) {
+      throw new SerializationException("Can't serialize data for topic", e);
+    }
+  }
+}
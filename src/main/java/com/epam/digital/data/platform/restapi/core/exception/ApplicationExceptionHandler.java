@@ -110,6 +110,15 @@ public class ApplicationExceptionHandler extends ResponseEntityExceptionHandler
         .body(newDetailedResponse(ResponseCode.INTERNAL_CONTRACT_VIOLATION));
   }
 
+  @ExceptionHandler(KafkaCephResponseTooLargeException.class)
+  public ResponseEntity<DetailedErrorResponse<Void>> handleKafkaCephResponseTooLargeException(
+      KafkaCephResponseTooLargeException exception) {
+    log.error("Kafka response in ceph exceeds the allowed size", exception);
+    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(newDetailedResponse(ResponseCode.INTERNAL_CONTRACT_VIOLATION));
+  }
+
   @AuditableException
   @ExceptionHandler(KepServiceInternalServerErrorException.class)
   public ResponseEntity<DetailedErrorResponse<Void>> handleInternalServerErrorException(
@@ -151,6 +160,18 @@ public class ApplicationExceptionHandler extends ResponseEntityExceptionHandler
         .body(newDetailedResponse(ResponseCode.TIMEOUT_ERROR));
   }
 
+  @AuditableException
+  @ExceptionHandler(KafkaRequestRejectedException.class)
+  public ResponseEntity<DetailedErrorResponse<Void>> handleKafkaRequestRejectedException(
+      KafkaRequestRejectedException exception) {
+    log.error("Kafka request rejected due to overload", exception);
+    var retryAfterSeconds = Math.max(1, (exception.getRetryAfter().toMillis() + 999) / 1000);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(newDetailedResponse(ResponseCode.THIRD_PARTY_SERVICE_UNAVAILABLE));
+  }
+
   @AuditableException(userInfoEnabled = false)
   @ExceptionHandler(AuthenticationException.class)
   public ResponseEntity<DetailedErrorResponse<Void>> handleAuthenticationException(
@@ -304,6 +325,26 @@ public class ApplicationExceptionHandler extends ResponseEntityExceptionHandler
         .body(newDetailedResponse(code));
   }
 
+  @AuditableException
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<DetailedErrorResponse<Void>> handleInvalidCursorException(
+      InvalidCursorException exception) {
+    log.error("Search cursor is invalid", exception);
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(newDetailedResponse(ResponseCode.CLIENT_ERROR));
+  }
+
+  @AuditableException
+  @ExceptionHandler(RequestBodyTooLargeException.class)
+  public ResponseEntity<DetailedErrorResponse<Void>> handleRequestBodyTooLargeException(
+      RequestBodyTooLargeException exception) {
+    log.error("Request body is too large", exception);
+    return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(newDetailedResponse(ResponseCode.PAYLOAD_TOO_LARGE));
+  }
+
   @AuditableException
   @ExceptionHandler(DigitalSignatureNotFoundException.class)
   public ResponseEntity<DetailedErrorResponse<Void>> handleCephNoSuchObjectException(
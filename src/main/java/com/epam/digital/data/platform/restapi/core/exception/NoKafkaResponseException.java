@@ -18,7 +18,7 @@ package com.epam.digital.data.platform.restapi.core.exception;
 
 public class NoKafkaResponseException extends RuntimeException {
 
-  public NoKafkaResponseException(String message, Exception e) {
+  public NoKafkaResponseException(String message, Throwable e) {
     super(message, e);
   }
 }
@@ -16,23 +16,24 @@
 
 package com.epam.digital.data.platform.restapi.core.filter;
 
-import com.epam.digital.data.platform.restapi.core.config.WebConfigProperties;
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.http.HttpServletRequest;
 
 public abstract class AbstractFilter extends OncePerRequestFilter {
 
-  private final WebConfigProperties webConfigProperties;
+  private final RequestClassifier requestClassifier;
 
-  AbstractFilter(WebConfigProperties webConfigProperties) {
-    this.webConfigProperties = webConfigProperties;
+  AbstractFilter(RequestClassifier requestClassifier) {
+    this.requestClassifier = requestClassifier;
   }
 
   @Override
   protected boolean shouldNotFilter(HttpServletRequest request) {
-    return webConfigProperties.getFilters().getExclude().stream()
-        .anyMatch(pattern -> new AntPathRequestMatcher(pattern).matches(request));
+    return classify(request).isExcluded();
+  }
+
+  protected RequestDescriptor classify(HttpServletRequest request) {
+    return requestClassifier.classify(request);
   }
 }
@@ -19,17 +19,24 @@ package com.epam.digital.data.platform.restapi.core.filter;
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
 
+/**
+ * Servlet input stream over an in-memory body. The array is not copied, so several streams can
+ * re-read the same cached body; callers must not modify it.
+ */
 public class CustomServletInputStream extends ServletInputStream {
 
-  private byte[] bytes;
+  private final byte[] bytes;
 
-  private int lastIndexRetrieved = -1;
+  private int position = 0;
   private ReadListener readListener = null;
 
   public CustomServletInputStream(String s) {
-    bytes = s.getBytes(StandardCharsets.UTF_8);
+    this(s.getBytes(StandardCharsets.UTF_8));
   }
 
   public CustomServletInputStream(byte[] inputBytes) {
@@ -38,12 +45,12 @@ public class CustomServletInputStream extends ServletInputStream {
 
   @Override
   public boolean isFinished() {
-    return (lastIndexRetrieved == bytes.length - 1);
+    return position >= bytes.length;
   }
 
   @Override
   public boolean isReady() {
-    return isFinished();
+    return true;
   }
 
   @Override
@@ -66,21 +73,71 @@ public class CustomServletInputStream extends ServletInputStream {
 
   @Override
   public int read() throws IOException {
-    int i;
+    if (isFinished()) {
+      return -1;
+    }
+    int i = bytes[position++] & 0xff;
+    notifyIfFinished();
+    return i;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+    if (isFinished()) {
+      return -1;
+    }
+    int count = Math.min(len, bytes.length - position);
+    System.arraycopy(bytes, position, b, off, count);
+    position += count;
+    notifyIfFinished();
+    return count;
+  }
+
+  @Override
+  public byte[] readAllBytes() throws IOException {
+    byte[] rest = Arrays.copyOfRange(bytes, position, bytes.length);
     if (!isFinished()) {
-      i = bytes[lastIndexRetrieved + 1];
-      lastIndexRetrieved++;
-      if (isFinished() && (readListener != null)) {
-        try {
-          readListener.onAllDataRead();
-        } catch (IOException ex) {
-          readListener.onError(ex);
-          throw ex;
-        }
+      position = bytes.length;
+      notifyIfFinished();
+    }
+    return rest;
+  }
+
+  @Override
+  public long transferTo(OutputStream out) throws IOException {
+    int count = bytes.length - position;
+    if (count > 0) {
+      out.write(bytes, position, count);
+      position = bytes.length;
+      notifyIfFinished();
+    }
+    return count;
+  }
+
+  @Override
+  public long skip(long n) {
+    int count = (int) Math.max(0, Math.min(n, bytes.length - position));
+    position += count;
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return bytes.length - position;
+  }
+
+  private void notifyIfFinished() throws IOException {
+    if (isFinished() && (readListener != null)) {
+      try {
+        readListener.onAllDataRead();
+      } catch (IOException ex) {
+        readListener.onError(ex);
+        throw ex;
       }
-      return i;
-    } else {
-      return -1;
     }
   }
 }
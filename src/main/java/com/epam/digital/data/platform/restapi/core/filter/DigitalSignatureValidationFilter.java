@@ -26,16 +26,17 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.RegExUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -45,41 +46,47 @@ import org.springframework.web.util.UrlPathHelper;
 @Order(FiltersOrder.DIGITAL_SIGNATURE_VALIDATION_FILTER)
 public class DigitalSignatureValidationFilter extends AbstractFilter {
 
-  private static final Set<String> applicableHttpMethods = Set.of("PUT", "POST", "DELETE", "PATCH");
-
   private final DigitalSignatureService digitalSignatureService;
   private final ObjectMapper mapper;
   private final boolean isEnabled;
+  private final Executor signatureCopyExecutor;
+  private final WebConfigProperties.BodyCache bodyCache;
 
   public DigitalSignatureValidationFilter(
       WebConfigProperties webConfigProperties,
+      RequestClassifier requestClassifier,
       DigitalSignatureService digitalSignatureService,
       ObjectMapper mapper,
-      @Value("${data-platform.signature.validation.enabled}") boolean isEnabled) {
-    super(webConfigProperties);
+      @Value("${data-platform.signature.validation.enabled}") boolean isEnabled,
+      @Qualifier("signatureCopyExecutor") Executor signatureCopyExecutor) {
+    super(requestClassifier);
     this.digitalSignatureService = digitalSignatureService;
     this.mapper = mapper;
     this.isEnabled = isEnabled;
+    this.signatureCopyExecutor = signatureCopyExecutor;
+    this.bodyCache = webConfigProperties.getBodyCache();
   }
 
   @Override
   public void doFilterInternal(HttpServletRequest request, HttpServletResponse servletResponse,
       FilterChain filterChain) throws IOException, ServletException {
 
-    String method = request.getMethod().toUpperCase();
+    var descriptor = classify(request);
 
     SecurityContext securityContext = new SecurityContext();
 
-    if (applicableHttpMethods.contains(method)) {
+    if (descriptor.isSignatureApplicable()) {
       fillContextSignatures(securityContext, request);
 
       if (isEnabled) {
         String data;
-        if (method.equals("DELETE")) {
+        if (descriptor.getMethod().equals("DELETE")) {
           data = getDataForDelete(request);
         } else {
-          request = new MultiReadHttpServletRequest(request);
-          data = request.getReader().lines().collect(Collectors.joining(System.lineSeparator()));
+          var multiReadRequest =
+              new MultiReadHttpServletRequest(request, bodyCache.getMaxSize().toBytes());
+          data = multiReadRequest.getBodyAsString();
+          request = multiReadRequest;
         }
 
         digitalSignatureService.checkSignature(data, securityContext);
@@ -91,16 +98,35 @@ public class DigitalSignatureValidationFilter extends AbstractFilter {
     filterChain.doFilter(request, servletResponse);
   }
 
+  /**
+   * Both signatures are copied at the same time: the first one on the signature copy executor and
+   * the second one on the request thread.
+   */
   private SecurityContext saveSignatures(SecurityContext sc) {
-    String signature = digitalSignatureService.copySignature(sc.getDigitalSignature());
-    sc.setDigitalSignatureChecksum(DigestUtils.sha256Hex(signature));
+    var signatureChecksum = CompletableFuture.supplyAsync(
+        () -> copySignature(sc.getDigitalSignature()), signatureCopyExecutor);
 
-    String signatureDerived = digitalSignatureService.copySignature(sc.getDigitalSignatureDerived());
-    sc.setDigitalSignatureDerivedChecksum(DigestUtils.sha256Hex(signatureDerived));
+    sc.setDigitalSignatureDerivedChecksum(copySignature(sc.getDigitalSignatureDerived()));
+    sc.setDigitalSignatureChecksum(join(signatureChecksum));
 
     return sc;
   }
 
+  private String copySignature(String key) {
+    return digitalSignatureService.copySignatureAndGetChecksum(key);
+  }
+
+  private String join(CompletableFuture<String> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
   private String getDataForDelete(HttpServletRequest request) {
     String fullPath = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
     String url = RegExUtils.removePattern(fullPath, "/+$");
@@ -26,13 +26,12 @@ import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
-import com.epam.digital.data.platform.restapi.core.config.WebConfigProperties;
 import com.epam.digital.data.platform.restapi.core.exception.MandatoryAccessTokenClaimMissingException;
 import com.epam.digital.data.platform.restapi.core.exception.MandatoryHeaderMissingException;
+import com.epam.digital.data.platform.restapi.core.service.JwtInfoProvider;
 import com.epam.digital.data.platform.restapi.core.utils.Header;
 import com.epam.digital.data.platform.starter.security.dto.JwtClaimsDto;
 import com.epam.digital.data.platform.starter.security.exception.JwtParsingException;
-import com.epam.digital.data.platform.starter.security.jwt.TokenParser;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -47,12 +46,6 @@ import org.springframework.stereotype.Component;
 @Order(FiltersOrder.HEADER_VALIDATION_FILTER)
 public class HeaderValidationFilter extends AbstractFilter {
 
-  private static final List<String> MODIFYING_HTTP_METHODS = List.of(
-      "POST",
-      "PUT",
-      "DELETE"
-  );
-
   private static final List<Header> MODIFYING_MANDATORY_HEADERS = List.of(
       X_DIGITAL_SIGNATURE,
       X_DIGITAL_SIGNATURE_DERIVED,
@@ -61,13 +54,13 @@ public class HeaderValidationFilter extends AbstractFilter {
       X_SOURCE_BUSINESS_PROCESS
   );
 
-  private final TokenParser tokenParser;
+  private final JwtInfoProvider jwtInfoProvider;
 
   public HeaderValidationFilter(
-      WebConfigProperties webConfigProperties,
-      TokenParser tokenParser) {
-    super(webConfigProperties);
-    this.tokenParser = tokenParser;
+      RequestClassifier requestClassifier,
+      JwtInfoProvider jwtInfoProvider) {
+    super(requestClassifier);
+    this.jwtInfoProvider = jwtInfoProvider;
   }
 
   @Override
@@ -84,7 +77,7 @@ public class HeaderValidationFilter extends AbstractFilter {
     JwtClaimsDto claims;
     try {
       var token = request.getHeader(X_ACCESS_TOKEN.getHeaderName());
-      claims = tokenParser.parseClaims(token);
+      claims = jwtInfoProvider.parseClaims(token);
     } catch (JwtParsingException e) {
       // should never happen but still treat the case as there are no expected claims
       claims = new JwtClaimsDto();
@@ -106,7 +99,7 @@ public class HeaderValidationFilter extends AbstractFilter {
   }
 
   private void validateModifyingMandatoryHeaders(HttpServletRequest request) {
-    if (MODIFYING_HTTP_METHODS.contains(request.getMethod().toUpperCase())) {
+    if (classify(request).isModifying()) {
       var missed = MODIFYING_MANDATORY_HEADERS.stream()
           .map(Header::getHeaderName)
           .filter(x -> missed(x, request))
@@ -16,30 +16,90 @@
 
 package com.epam.digital.data.platform.restapi.core.filter;
 
+import com.epam.digital.data.platform.restapi.core.exception.RequestBodyTooLargeException;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.stream.Collectors;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
+/**
+ * Caches the raw request body once so that the signature check and the message converters read
+ * exactly the bytes the client sent. Every {@link #getInputStream()} call re-reads the same buffer.
+ *
+ * <p>The body is kept in memory, as the signature service verifies the whole body passed as a
+ * string. Bodies above the max size are rejected before they are read or while they are read.
+ * The buffer starts small and grows with the bytes actually received, a declared Content-Length
+ * is never trusted to size it.
+ */
 public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
 
-  private String body;
+  private static final int BUFFER_SIZE = 8192;
+  private static final int MAX_INITIAL_CAPACITY = BUFFER_SIZE * 8;
+  private static final long MAX_BODY_SIZE = Integer.MAX_VALUE - 8;
+
+  private final byte[] body;
 
   public MultiReadHttpServletRequest(HttpServletRequest request) throws IOException {
+    this(request, Integer.MAX_VALUE);
+  }
+
+  public MultiReadHttpServletRequest(HttpServletRequest request, long maxSize)
+      throws IOException {
     super(request);
-    body = request.getReader().lines().collect(Collectors.joining(System.lineSeparator()));
+    maxSize = Math.min(maxSize, MAX_BODY_SIZE);
+    var contentLength = request.getContentLengthLong();
+    if (contentLength > maxSize) {
+      throw new RequestBodyTooLargeException(maxSize);
+    }
+    body = readBody(request.getInputStream(), contentLength, maxSize);
+  }
+
+  private static byte[] readBody(InputStream in, long contentLength, long maxSize)
+      throws IOException {
+    var out = new ByteArrayOutputStream(initialCapacity(contentLength));
+    var buffer = new byte[BUFFER_SIZE];
+    long size = 0;
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      size += read;
+      if (size > maxSize) {
+        throw new RequestBodyTooLargeException(maxSize);
+      }
+      out.write(buffer, 0, read);
+    }
+    return out.toByteArray();
+  }
+
+  static int initialCapacity(long contentLength) {
+    return (int) Math.min(Math.max(contentLength, BUFFER_SIZE), MAX_INITIAL_CAPACITY);
+  }
+
+  public long getBodySize() {
+    return body.length;
+  }
+
+  public String getBodyAsString() {
+    return new String(body, getCharset());
   }
 
   @Override
   public ServletInputStream getInputStream() {
-    return new CustomServletInputStream(body.getBytes());
+    return new CustomServletInputStream(body);
   }
 
   @Override
   public BufferedReader getReader() {
-    return new BufferedReader(new InputStreamReader(this.getInputStream()));
+    return new BufferedReader(new InputStreamReader(getInputStream(), getCharset()));
+  }
+
+  private Charset getCharset() {
+    var encoding = getCharacterEncoding();
+    return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
   }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.filter;
+
+import static java.util.stream.Collectors.toList;
+
+import com.epam.digital.data.platform.restapi.core.config.WebConfigProperties;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Classifies a request once and keeps the resulting {@link RequestDescriptor} in a request
+ * attribute, so every filter works with the same decision. Exclude patterns are compiled once and
+ * recompiled only when the configured list is replaced.
+ */
+@Component
+public class RequestClassifier {
+
+  public static final String REQUEST_DESCRIPTOR_ATTRIBUTE = RequestDescriptor.class.getName();
+
+  private static final Set<String> MODIFYING_HTTP_METHODS = Set.of("POST", "PUT", "DELETE");
+  private static final Set<String> SIGNED_HTTP_METHODS = Set.of("POST", "PUT", "DELETE", "PATCH");
+
+  private final WebConfigProperties webConfigProperties;
+
+  private volatile ExcludeMatchers excludeMatchers;
+
+  public RequestClassifier(WebConfigProperties webConfigProperties) {
+    this.webConfigProperties = webConfigProperties;
+  }
+
+  public RequestDescriptor classify(HttpServletRequest request) {
+    var attribute = request.getAttribute(REQUEST_DESCRIPTOR_ATTRIBUTE);
+    if (attribute instanceof RequestDescriptor) {
+      return (RequestDescriptor) attribute;
+    }
+
+    var method = request.getMethod().toUpperCase(Locale.ROOT);
+    var descriptor = new RequestDescriptor(
+        method,
+        isExcluded(request),
+        MODIFYING_HTTP_METHODS.contains(method),
+        SIGNED_HTTP_METHODS.contains(method));
+    request.setAttribute(REQUEST_DESCRIPTOR_ATTRIBUTE, descriptor);
+    return descriptor;
+  }
+
+  private boolean isExcluded(HttpServletRequest request) {
+    return getExcludeMatchers().matchers.stream().anyMatch(matcher -> matcher.matches(request));
+  }
+
+  private ExcludeMatchers getExcludeMatchers() {
+    var patterns = webConfigProperties.getFilters().getExclude();
+    var current = excludeMatchers;
+    if (current == null || current.patterns != patterns) {
+      current = new ExcludeMatchers(patterns);
+      excludeMatchers = current;
+    }
+    return current;
+  }
+
+  private static class ExcludeMatchers {
+
+    private final List<String> patterns;
+    private final List<AntPathRequestMatcher> matchers;
+
+    ExcludeMatchers(List<String> patterns) {
+      this.patterns = patterns;
+      this.matchers = patterns.stream().map(AntPathRequestMatcher::new).collect(toList());
+    }
+  }
+}
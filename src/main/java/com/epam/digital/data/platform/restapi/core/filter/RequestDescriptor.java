@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.filter;
+
+/**
+ * Routing decisions made once per request by {@link RequestClassifier}.
+ */
+public final class RequestDescriptor {
+
+  private final String method;
+  private final boolean excluded;
+  private final boolean modifying;
+  private final boolean signatureApplicable;
+
+  RequestDescriptor(String method, boolean excluded, boolean modifying,
+      boolean signatureApplicable) {
+    this.method = method;
+    this.excluded = excluded;
+    this.modifying = modifying;
+    this.signatureApplicable = signatureApplicable;
+  }
+
+  /**
+   * Upper-cased HTTP method.
+   */
+  public String getMethod() {
+    return method;
+  }
+
+  /**
+   * Whether the request path matches one of the {@code data-platform.web.filters.exclude}
+   * patterns.
+   */
+  public boolean isExcluded() {
+    return excluded;
+  }
+
+  /**
+   * Whether the request must carry the mandatory signature and source headers.
+   */
+  public boolean isModifying() {
+    return modifying;
+  }
+
+  /**
+   * Whether the request payload is covered by the digital signature.
+   */
+  public boolean isSignatureApplicable() {
+    return signatureApplicable;
+  }
+}
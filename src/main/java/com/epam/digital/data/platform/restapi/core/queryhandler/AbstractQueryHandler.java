@@ -24,17 +24,29 @@ import com.epam.digital.data.platform.restapi.core.service.JwtInfoProvider;
 import com.epam.digital.data.platform.restapi.core.tabledata.TableDataProvider;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.SelectFieldOrAsterisk;
 import org.jooq.impl.DSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+import static java.util.stream.Collectors.toList;
+
 public abstract class AbstractQueryHandler<I, O> implements QueryHandler<I, O> {
 
+  private static final Condition NO_CONDITION = DSL.noCondition();
+
   private final Logger log = LoggerFactory.getLogger(AbstractQueryHandler.class);
 
   @Autowired
@@ -44,10 +56,25 @@ public abstract class AbstractQueryHandler<I, O> implements QueryHandler<I, O> {
 
   protected final TableDataProvider tableDataProvider;
 
+  private final boolean commonConditionOverridden = overridesCommonCondition();
+
+  private int findByIdsChunkSize = 1000;
+
+  private volatile FindByIdTemplate findByIdTemplate;
+
   public AbstractQueryHandler(TableDataProvider tableDataProvider) {
     this.tableDataProvider = tableDataProvider;
   }
 
+  @Value("${data-platform.query.find-by-ids.chunk-size:1000}")
+  public void setFindByIdsChunkSize(int findByIdsChunkSize) {
+    if (findByIdsChunkSize <= 0) {
+      throw new IllegalArgumentException(
+          "data-platform.query.find-by-ids.chunk-size must be positive, got " + findByIdsChunkSize);
+    }
+    this.findByIdsChunkSize = findByIdsChunkSize;
+  }
+
   @AuditableDatabaseOperation(Operation.READ)
   @Override
   public Optional<O> findById(Request<I> input) {
@@ -55,24 +82,160 @@ public abstract class AbstractQueryHandler<I, O> implements QueryHandler<I, O> {
 
     I id = input.getPayload();
     try {
-      final O dto =
-          context
-              .select(selectFields())
-              .from(DSL.table(tableDataProvider.tableName()))
-              .where(DSL.field(tableDataProvider.pkColumnName()).eq(id))
-                  .and(getCommonCondition(input))
-              .fetchOneInto(entityType());
+      if (id == null || commonConditionOverridden) {
+        return Optional.ofNullable(
+            context
+                .select(selectFields())
+                .from(DSL.table(tableDataProvider.tableName()))
+                .where(DSL.field(tableDataProvider.pkColumnName()).eq(id))
+                    .and(getCommonCondition(input))
+                .fetchOneInto(entityType()));
+      }
+      var template = getFindByIdTemplate(id);
+      final O dto = template.coerce(context.resultQuery(template.sql, template.bind(id)))
+          .fetchOneInto(entityType());
       return Optional.ofNullable(dto);
     } catch (Exception e) {
       throw new SqlErrorException("Can not read from DB", e);
     }
   }
 
+  @AuditableDatabaseOperation(Operation.READ_ALL)
+  @Override
+  public List<O> findByIds(Request<Collection<I>> input) {
+    log.info("Reading batch from DB");
+
+    var ids = Optional.ofNullable(input.getPayload()).orElse(List.of()).stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .collect(toList());
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    var commonCondition = getBatchCommonCondition(input);
+    if (commonCondition == null) {
+      return ids.stream()
+          .map(id -> findById(
+              new Request<>(id, input.getRequestContext(), input.getSecurityContext())))
+          .flatMap(Optional::stream)
+          .collect(toList());
+    }
+    try {
+      var result = new ArrayList<O>(ids.size());
+      for (int from = 0; from < ids.size(); from += findByIdsChunkSize) {
+        var chunk = ids.subList(from, Math.min(from + findByIdsChunkSize, ids.size()));
+        result.addAll(
+            context
+                .select(selectFields())
+                .from(DSL.table(tableDataProvider.tableName()))
+                .where(DSL.field(tableDataProvider.pkColumnName()).eq(DSL.any(toArray(chunk))))
+                    .and(commonCondition)
+                .fetchInto(entityType()));
+      }
+      return result;
+    } catch (Exception e) {
+      throw new SqlErrorException("Can not read from DB", e);
+    }
+  }
+
+  /**
+   * Binds the ids as a single typed array, e.g. {@code uuid[]}, so the query text does not depend
+   * on the number of ids.
+   */
+  private Field<Object[]> toArray(List<I> ids) {
+    var array = (Object[]) Array.newInstance(ids.get(0).getClass(), ids.size());
+    return DSL.val(ids.toArray(array));
+  }
+
+  /**
+   * The select by primary key is rendered once per handler, so later calls only bind the id into
+   * the plain SQL instead of building and rendering the query. Only handlers that do not override
+   * {@link #getCommonCondition} use it, as that condition may differ from request to request.
+   */
+  private FindByIdTemplate getFindByIdTemplate(I id) {
+    var tableName = tableDataProvider.tableName();
+    var pkColumnName = tableDataProvider.pkColumnName();
+    var template = findByIdTemplate;
+    if (template == null || !template.matches(tableName, pkColumnName, id.getClass())) {
+      var query =
+          context
+              .select(selectFields())
+              .from(DSL.table(tableName))
+              .where(DSL.field(pkColumnName).eq(id));
+      template = new FindByIdTemplate(tableName, pkColumnName, id.getClass(),
+          context.render(query), query.getBindValues(), query.getSelect());
+      findByIdTemplate = template;
+    }
+    return template;
+  }
+
   public Condition getCommonCondition(Request<I> input) {
     return DSL.noCondition();
   }
 
+  /**
+   * Condition added to every {@link #findByIds} chunk. Returns {@code null} when the handler
+   * overrides {@link #getCommonCondition} but not this method, since that condition may depend on
+   * the requested id; the ids are then read one by one through {@link #findById}.
+   */
+  protected Condition getBatchCommonCondition(Request<Collection<I>> input) {
+    return commonConditionOverridden ? null : NO_CONDITION;
+  }
+
+  private boolean overridesCommonCondition() {
+    try {
+      return getClass().getMethod("getCommonCondition", Request.class).getDeclaringClass()
+          != AbstractQueryHandler.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   public abstract Class<O> entityType();
 
   public abstract List<SelectFieldOrAsterisk> selectFields();
+
+  private static class FindByIdTemplate {
+
+    private final String tableName;
+    private final String pkColumnName;
+    private final Class<?> idType;
+    private final String sql;
+    private final Object[] bindValues;
+    private final Field<?>[] fields;
+
+    /**
+     * The id is the last bind value of the rendered query; any values bound by the select fields
+     * come before it and are kept as they are.
+     */
+    FindByIdTemplate(String tableName, String pkColumnName, Class<?> idType, String sql,
+        List<Object> bindValues, List<Field<?>> fields) {
+      this.tableName = tableName;
+      this.pkColumnName = pkColumnName;
+      this.idType = idType;
+      this.sql = sql;
+      this.bindValues = bindValues.toArray();
+      this.fields = fields.toArray(new Field<?>[0]);
+    }
+
+    /**
+     * Keeps the data types and bindings of the select fields, which a plain SQL query would
+     * otherwise take from the JDBC metadata.
+     */
+    ResultQuery<? extends Record> coerce(ResultQuery<Record> query) {
+      return fields.length == 0 ? query : query.coerce(fields);
+    }
+
+    Object[] bind(Object id) {
+      var values = bindValues.clone();
+      values[values.length - 1] = id;
+      return values;
+    }
+
+    boolean matches(String tableName, String pkColumnName, Class<?> idType) {
+      return this.tableName.equals(tableName)
+          && this.pkColumnName.equals(pkColumnName)
+          && this.idType == idType;
+    }
+  }
 }
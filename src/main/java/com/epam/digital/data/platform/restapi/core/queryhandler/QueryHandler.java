@@ -19,10 +19,31 @@ package com.epam.digital.data.platform.restapi.core.queryhandler;
 import com.epam.digital.data.platform.model.core.kafka.Request;
 import org.springframework.cloud.sleuth.annotation.NewSpan;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+import static java.util.stream.Collectors.toList;
+
 public interface QueryHandler<I, O> {
 
   @NewSpan
   Optional<O> findById(Request<I> input);
+
+  /**
+   * Reads all entities with the given ids. Ids that are not found are skipped, the order of the
+   * result is not guaranteed to follow the order of the ids. The default implementation reads the
+   * ids one by one, {@link AbstractQueryHandler} overrides it with a single round trip.
+   */
+  @NewSpan
+  default List<O> findByIds(Request<Collection<I>> input) {
+    return Optional.ofNullable(input.getPayload()).orElse(List.of()).stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .map(id -> findById(
+            new Request<>(id, input.getRequestContext(), input.getSecurityContext())))
+        .flatMap(Optional::stream)
+        .collect(toList());
+  }
 }
@@ -21,17 +21,22 @@ import com.epam.digital.data.platform.model.core.search.SearchConditionPage;
 import com.epam.digital.data.platform.restapi.core.audit.AuditableDatabaseOperation;
 import com.epam.digital.data.platform.restapi.core.audit.AuditableDatabaseOperation.Operation;
 import com.epam.digital.data.platform.restapi.core.exception.SqlErrorException;
+import com.epam.digital.data.platform.restapi.core.model.KeysetSearchConditionPage;
+import com.epam.digital.data.platform.restapi.core.utils.PageableUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections4.CollectionUtils;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.Result;
 import org.jooq.SelectFieldOrAsterisk;
 import org.jooq.impl.DSL;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 
 import java.util.List;
+import java.util.Optional;
 
 public abstract class AbstractSearchHandler<I, O>
     implements SearchHandler<I, O> {
@@ -46,6 +51,9 @@ public abstract class AbstractSearchHandler<I, O>
   @AuditableDatabaseOperation(Operation.SEARCH)
   @Override
   public SearchConditionPage<O> search(Request<I> input) {
+    if (!keysetFields().isEmpty()) {
+      return getKeysetPage(input);
+    }
     var response = new SearchConditionPage<O>();
     response.setContent(getContent(input));
     return response;
@@ -81,6 +89,48 @@ public abstract class AbstractSearchHandler<I, O>
     }
   }
 
+  /**
+   * Reads the page following the row encoded in {@link #cursor(Object)} by seeking past its sort
+   * key values instead of skipping rows with an offset, so every page costs the same no matter how
+   * deep it is. The next cursor is only returned when the page is full.
+   */
+  protected KeysetSearchConditionPage<O> getKeysetPage(Request<I> input) {
+    I searchCriteria = input.getPayload();
+    var keyFields = keysetFields();
+    var pageSize = Optional.ofNullable(limit(searchCriteria))
+        .orElse(PageableUtils.DEFAULT_PAGE_SIZE);
+    var cursor = cursor(searchCriteria);
+    var seekValues = cursor == null ? null : KeysetCursor.decode(cursor, keyFields, objectMapper);
+
+    var response = new KeysetSearchConditionPage<O>();
+    Result<Record> records;
+    try {
+      var selectFields = selectFields();
+      var orderedRequest =
+          context
+              .select(selectFields)
+              .from(DSL.table(tableName()))
+              .where(whereClause(searchCriteria))
+              .and(getCommonCondition(input))
+              .orderBy(keyFields);
+      records = seekValues == null
+          ? orderedRequest.limit(pageSize).fetch()
+          : orderedRequest.seek(seekValues).limit(pageSize).fetch();
+
+      response.setContent(CollectionUtils.size(selectFields) > 1
+          ? records.into(entityType())
+          : records.map(this::mapFieldsToEntity));
+    } catch (Exception e) {
+      throw new SqlErrorException("Can not read from DB", e);
+    }
+    response.setPageSize(pageSize);
+    if (records.size() == pageSize) {
+      response.setNextCursor(
+          KeysetCursor.encode(records.get(records.size() - 1), keyFields, objectMapper));
+    }
+    return response;
+  }
+
   private O mapFieldsToEntity(Record src) {
     return objectMapper.convertValue(src.intoMap(), entityType());
   }
@@ -104,4 +154,22 @@ public abstract class AbstractSearchHandler<I, O>
   protected Integer offset(I searchCriteria) {
     return null;
   }
+
+  /**
+   * Sort keys that switch the handler to keyset pagination, in ascending order. Together they must
+   * identify a row uniquely (e.g. end with the primary key), must be {@code NOT NULL} columns,
+   * must be part of {@link #selectFields()} and must be typed, e.g.
+   * {@code DSL.field("id", UUID.class)}, so the cursor values are read back as the column types.
+   */
+  protected List<Field<?>> keysetFields() {
+    return List.of();
+  }
+
+  /**
+   * Opaque cursor from the previous {@link KeysetSearchConditionPage}, {@code null} for the first
+   * page.
+   */
+  protected String cursor(I searchCriteria) {
+    return null;
+  }
 }
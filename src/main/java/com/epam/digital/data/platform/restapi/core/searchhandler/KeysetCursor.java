@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.searchhandler;
+
+import com.epam.digital.data.platform.restapi.core.exception.InvalidCursorException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import org.jooq.Field;
+import org.jooq.Record;
+
+/**
+ * Opaque keyset cursor: the sort key values of the last returned row, as a URL-safe Base64
+ * encoded JSON array. Each value is kept as its own JSON text written by the object mapper and
+ * read back into the type of its key field, so temporal values keep their precision and offset
+ * and decimals keep their scale. Null key values are rejected, since seeking past a null matches
+ * no rows.
+ */
+final class KeysetCursor {
+
+  private static final TypeReference<List<String>> VALUES_TYPE = new TypeReference<>() {};
+
+  private KeysetCursor() {
+  }
+
+  static String encode(Record lastRow, List<Field<?>> keyFields, ObjectMapper objectMapper) {
+    var writer = objectMapper.writer().without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    var values = new ArrayList<String>(keyFields.size());
+    try {
+      for (var field : keyFields) {
+        var value = lastRow.get(field.getName(), field.getType());
+        if (value == null) {
+          throw new IllegalStateException(
+              "Keyset field " + field.getName() + " is null, keyset fields must not be nullable");
+        }
+        values.add(writer.writeValueAsString(value));
+      }
+      return Base64.getUrlEncoder().withoutPadding()
+          .encodeToString(objectMapper.writeValueAsBytes(values));
+    } catch (IOException e) {
+      throw new IllegalStateException("Couldn't encode search cursor", e);
+    }
+  }
+
+  static Object[] decode(String cursor, List<Field<?>> keyFields, ObjectMapper objectMapper) {
+    List<String> values;
+    try {
+      values = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), VALUES_TYPE);
+    } catch (IllegalArgumentException | IOException e) {
+      throw new InvalidCursorException("Search cursor is malformed", e);
+    }
+    if (values == null || values.size() != keyFields.size()) {
+      throw new InvalidCursorException("Search cursor does not match the sort keys");
+    }
+    var reader = objectMapper.reader()
+        .without(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+    var seekValues = new Object[values.size()];
+    for (int i = 0; i < values.size(); i++) {
+      try {
+        seekValues[i] = values.get(i) == null
+            ? null
+            : reader.forType(keyFields.get(i).getType()).readValue(values.get(i));
+      } catch (IOException | RuntimeException e) {
+        throw new InvalidCursorException("Search cursor contains invalid values", e);
+      }
+      if (seekValues[i] == null) {
+        throw new InvalidCursorException("Search cursor contains null values");
+      }
+    }
+    return seekValues;
+  }
+}
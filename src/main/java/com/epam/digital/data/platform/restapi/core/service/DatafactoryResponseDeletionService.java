@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import com.epam.digital.data.platform.integration.ceph.service.CephService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes processed large Kafka responses from the datafactory response Ceph bucket in the
+ * background. Keys are queued by the request thread and removed with multi-object deletes, either
+ * periodically or as soon as a full batch is collected. Failed keys are retried a limited number
+ * of times.
+ */
+@Component
+public class DatafactoryResponseDeletionService {
+
+  private final Logger log = LoggerFactory.getLogger(DatafactoryResponseDeletionService.class);
+
+  private final CephService datafactoryResponseCephService;
+  private final String datafactoryResponseBucket;
+  private final int batchSize;
+  private final int maxAttempts;
+
+  private final BlockingQueue<String> queue;
+  private final Map<String, Integer> failedAttempts = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService executor;
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+  private final Counter deletedCounter;
+  private final Counter droppedCounter;
+
+  public DatafactoryResponseDeletionService(
+      CephService datafactoryResponseCephService,
+      @Value("${datafactory-response-ceph.bucket}") String datafactoryResponseBucket,
+      @Value("${datafactory-response-ceph.deletion.batch-size:100}") int batchSize,
+      @Value("${datafactory-response-ceph.deletion.max-attempts:3}") int maxAttempts,
+      @Value("${datafactory-response-ceph.deletion.queue-capacity:10000}") int queueCapacity,
+      @Value("${datafactory-response-ceph.deletion.interval:1s}") Duration interval,
+      MeterRegistry meterRegistry) {
+    this.datafactoryResponseCephService = datafactoryResponseCephService;
+    this.datafactoryResponseBucket = datafactoryResponseBucket;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+    Gauge.builder("datafactory.response.ceph.deletion.queue.size", queue, BlockingQueue::size)
+        .description("Number of processed Ceph responses waiting for deletion")
+        .register(meterRegistry);
+    this.deletedCounter =
+        Counter.builder("datafactory.response.ceph.deletion.deleted")
+            .description("Number of processed Ceph responses deleted")
+            .register(meterRegistry);
+    this.droppedCounter =
+        Counter.builder("datafactory.response.ceph.deletion.dropped")
+            .description("Number of processed Ceph responses that were not deleted")
+            .register(meterRegistry);
+
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("ceph-response-deletion-"));
+    this.executor.scheduleWithFixedDelay(
+        this::deleteQueued, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public void delete(String key) {
+    if (!queue.offer(key)) {
+      log.warn("Ceph response deletion queue is full, processed response will not be deleted");
+      droppedCounter.increment();
+      return;
+    }
+    if (queue.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+      executor.execute(this::flush);
+    }
+  }
+
+  /**
+   * The flag is reset before draining, so keys queued while the batch is deleted schedule the
+   * next flush themselves.
+   */
+  private void flush() {
+    flushScheduled.set(false);
+    deleteQueued();
+  }
+
+  void deleteQueued() {
+    // keys re-queued for retry are left for the next run
+    int remaining = queue.size();
+    List<String> batch = new ArrayList<>(batchSize);
+    while (remaining > 0 && queue.drainTo(batch, Math.min(batchSize, remaining)) > 0) {
+      remaining -= batch.size();
+      deleteBatch(batch);
+      batch.clear();
+    }
+  }
+
+  private void deleteBatch(List<String> keys) {
+    try {
+      log.info("Deleting {} large payload(s) from Ceph", keys.size());
+      datafactoryResponseCephService.delete(datafactoryResponseBucket, new HashSet<>(keys));
+      keys.forEach(failedAttempts::remove);
+      deletedCounter.increment(keys.size());
+    } catch (Exception e) {
+      log.error("Exception while deleting processed messages from ceph", e);
+      keys.forEach(this::retryLater);
+    }
+  }
+
+  private void retryLater(String key) {
+    int attempts = failedAttempts.merge(key, 1, Integer::sum);
+    if (attempts >= maxAttempts || !queue.offer(key)) {
+      failedAttempts.remove(key);
+      droppedCounter.increment();
+      log.error("Processed response was not deleted from ceph after {} attempt(s)", attempts);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.execute(this::deleteQueued);
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -29,14 +29,22 @@ import com.epam.digital.data.platform.restapi.core.exception.DigitalSignatureNot
 import com.epam.digital.data.platform.restapi.core.exception.KepServiceBadRequestException;
 import com.epam.digital.data.platform.restapi.core.exception.KepServiceInternalServerErrorException;
 import com.epam.digital.data.platform.restapi.core.utils.Header;
+import com.epam.digital.data.platform.restapi.core.utils.RequestAttributeCache;
 import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
 import com.epam.digital.data.platform.storage.form.service.FormDataStorageService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.util.Optional;
 import java.util.UUID;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -46,12 +54,15 @@ public class DigitalSignatureService {
   private final Logger log = LoggerFactory.getLogger(DigitalSignatureService.class);
 
   private static final String PREFIX = "datafactory-";
+  private static final String FORM_DATA_CACHE_ATTRIBUTE =
+      DigitalSignatureService.class.getName() + ".formData";
   private final FormDataStorageService lowcodeFormDataStorageService;
   private final FormDataStorageService datafactoryFormDataStorageService;
   private final CephService datafactoryCephService;
   private final String datafactoryBucket;
   private final DigitalSealRestClient digitalSealRestClient;
   private final ObjectMapper objectMapper;
+  private SignatureVerificationCache verificationCache;
 
   public DigitalSignatureService(
       FormDataStorageService lowcodeFormDataStorageService,
@@ -67,6 +78,11 @@ public class DigitalSignatureService {
     this.digitalSealRestClient = digitalSealRestClient;
     this.objectMapper = objectMapper;
   }
+
+  @Autowired(required = false)
+  public void setVerificationCache(SignatureVerificationCache verificationCache) {
+    this.verificationCache = verificationCache;
+  }
   
   public void checkSignature(String data, SecurityContext sc) {
     String signature = getSignature(sc);
@@ -75,13 +91,17 @@ public class DigitalSignatureService {
 
   private String getSignature(SecurityContext sc) {
     log.info("Reading Signature from lowcode storage with key {}", sc.getDigitalSignatureDerived());
-    var formData = lowcodeFormDataStorageService.getFormData(sc.getDigitalSignatureDerived())
+    var formData = getLowcodeFormData(sc.getDigitalSignatureDerived())
         .orElseThrow(
             () -> new DigitalSignatureNotFoundException("Signature does not exist in lowcode storage"));
     return formData.getSignature();
   }
 
   private void verify(String signature, String data) {
+    if (verificationCache != null && verificationCache.isVerified(signature, data)) {
+      log.info("{} was already verified", Header.X_DIGITAL_SIGNATURE_DERIVED.getHeaderName());
+      return;
+    }
     try {
       log.info("Verifying {}", Header.X_DIGITAL_SIGNATURE_DERIVED.getHeaderName());
       VerificationResponseDto responseDto = digitalSealRestClient.verify(new VerificationRequestDto(signature, data));
@@ -89,6 +109,9 @@ public class DigitalSignatureService {
       if (!responseDto.isValid()) {
         throw new InvalidSignatureException(responseDto.getError().getMessage());
       }
+      if (verificationCache != null) {
+        verificationCache.putVerified(signature, data);
+      }
     } catch (BadRequestException e) {
       throw new KepServiceBadRequestException(e.getMessage());
     } catch (InternalServerErrorException e) {
@@ -97,11 +120,31 @@ public class DigitalSignatureService {
   }
 
   public String copySignature(String key) {
+    return serialize(copyFormData(key));
+  }
+
+  /**
+   * Same as {@link #copySignature(String)}, but returns the SHA-256 checksum of the serialized
+   * form data only. The form data is serialized straight into the digest, so the copied signature
+   * is not materialized once more as a string.
+   */
+  public String copySignatureAndGetChecksum(String key) {
+    var formData = copyFormData(key);
+    var digest = DigestUtils.getSha256Digest();
+    try (var digestStream = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+      objectMapper.writeValue(digestStream, formData);
+    } catch (IOException e) {
+      throw new IllegalStateException("Couldn't serialize object", e);
+    }
+    return Hex.encodeHexString(digest.digest());
+  }
+
+  private FormDataDto copyFormData(String key) {
     log.info("Copy Signature from lowcode to data ceph bucket");
-    var formData = lowcodeFormDataStorageService.getFormData(key).orElseThrow(
+    var formData = getLowcodeFormData(key).orElseThrow(
         () -> new DigitalSignatureNotFoundException("Signature does not exist in lowcode storage"));
     datafactoryFormDataStorageService.putFormData(key, formData);
-    return serialize(formData);
+    return formData;
   }
 
   public <I> String sign(I input) {
@@ -126,6 +169,17 @@ public class DigitalSignatureService {
     return key;
   }
 
+  /**
+   * The derived signature is read once for the verification and once more to be copied to the
+   * datafactory storage, so form data read within the current request is kept in a request
+   * attribute and reused.
+   */
+  private Optional<FormDataDto> getLowcodeFormData(String key) {
+    return Optional.ofNullable(RequestAttributeCache.computeIfAbsent(
+        FORM_DATA_CACHE_ATTRIBUTE, key,
+        k -> lowcodeFormDataStorageService.getFormData(k).orElse(null)));
+  }
+
   private String serialize(FormDataDto formDataDto) {
     try {
       return objectMapper.writeValueAsString(formDataDto);
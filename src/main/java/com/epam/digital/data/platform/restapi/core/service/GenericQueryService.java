@@ -20,6 +20,8 @@ import com.epam.digital.data.platform.model.core.kafka.Request;
 import com.epam.digital.data.platform.model.core.kafka.Response;
 import com.epam.digital.data.platform.model.core.kafka.Status;
 import com.epam.digital.data.platform.restapi.core.queryhandler.QueryHandler;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public abstract class GenericQueryService<I, O> {
@@ -43,4 +45,11 @@ public abstract class GenericQueryService<I, O> {
 
     return response;
   }
+
+  public Response<List<O>> requestAll(Request<Collection<I>> input) {
+    Response<List<O>> response = new Response<>();
+    response.setPayload(queryHandler.findByIds(input));
+    response.setStatus(Status.SUCCESS);
+    return response;
+  }
 }
@@ -17,45 +17,91 @@
 package com.epam.digital.data.platform.restapi.core.service;
 
 import static com.epam.digital.data.platform.restapi.core.utils.KafkaUtils.getKafkaHeader;
+import static com.epam.digital.data.platform.restapi.core.utils.KafkaUtils.toKafkaHeaderValue;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import com.epam.digital.data.platform.integration.ceph.exception.CephCommunicationException;
+import com.epam.digital.data.platform.integration.ceph.model.CephObjectMetadata;
 import com.epam.digital.data.platform.integration.ceph.service.CephService;
 import com.epam.digital.data.platform.model.core.kafka.Request;
 import com.epam.digital.data.platform.model.core.kafka.Response;
 import com.epam.digital.data.platform.model.core.kafka.ResponseHeaders;
+import com.epam.digital.data.platform.model.core.kafka.Status;
+import com.epam.digital.data.platform.restapi.core.config.KafkaCodecProperties;
+import com.epam.digital.data.platform.restapi.core.converter.kafka.KafkaPayloadCodec;
 import com.epam.digital.data.platform.restapi.core.exception.KafkaCephResponseNotFoundException;
+import com.epam.digital.data.platform.restapi.core.exception.KafkaCephResponseTooLargeException;
 import com.epam.digital.data.platform.restapi.core.exception.NoKafkaResponseException;
+import com.epam.digital.data.platform.restapi.core.utils.Header;
+import com.epam.digital.data.platform.restapi.core.utils.MdcUtils;
 import com.epam.digital.data.platform.starter.kafka.config.properties.KafkaProperties;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 
-import java.util.Collections;
-import java.util.concurrent.TimeUnit;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
+import org.springframework.kafka.requestreply.RequestReplyFuture;
 import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 public abstract class GenericService<I, O> implements KafkaService<I, O> {
 
   static final String DIGITAL_SEAL_KAFKA_HEADER = "digital-seal";
+  static final String DIGITAL_SEAL_STORAGE_KAFKA_HEADER = "digital-seal-storage";
+  static final String DIGITAL_SEAL_STORAGE_INLINE = "inline";
+  static final String CEPH_REQUEST_KEY_KAFKA_HEADER = "ceph-request-key";
+  static final String CEPH_REQUEST_KEY_PREFIX = "datafactory-request-";
 
   private final Logger log = LoggerFactory.getLogger(GenericService.class);
 
-  private final ReplyingKafkaTemplate<String, Request<I>, String> replyingKafkaTemplate;
+  private final ReplyingKafkaTemplate<String, Request<I>, ?> replyingKafkaTemplate;
   private final KafkaProperties.RequestReplyHandler topics;
+  private final Map<KafkaPayloadCodec, ObjectReader> responseReaders = new ConcurrentHashMap<>();
 
   @Value("${data-platform.kafka-request.signing.enabled}")
   private boolean isSigningEnabled;
+  @Value("${data-platform.kafka-request.signing.inline-max-size:#{null}}")
+  private DataSize inlineDigitalSealMaxSize;
   @Value("${datafactory-response-ceph.bucket}")
   private String datafactoryResponseBucket;
+  @Value("${datafactory-response-ceph.max-response-size:256MB}")
+  private DataSize maxCephResponseSize;
+  @Value("${data-platform.kafka-request.claim-check.threshold:#{null}}")
+  private DataSize claimCheckThreshold;
+  @Value("${datafactoryceph.bucket}")
+  private String datafactoryBucket;
 
   @Autowired
   private DigitalSignatureService digitalSignatureService;
@@ -64,21 +110,39 @@ public abstract class GenericService<I, O> implements KafkaService<I, O> {
   @Autowired
   private CephService datafactoryResponseCephService;
   @Autowired
+  private CephService datafactoryCephService;
+  @Autowired
+  private DatafactoryResponseDeletionService datafactoryResponseDeletionService;
+  @Autowired
   private ObjectMapper objectMapper;
+  @Autowired(required = false)
+  private KafkaCodecProperties kafkaCodecProperties;
+  @Autowired(required = false)
+  private KafkaConcurrencyLimiter concurrencyLimiter;
+  @Autowired(required = false)
+  private KafkaReplayCache replayCache;
+  @Autowired(required = false)
+  private JwtInfoProvider jwtInfoProvider;
+  @Autowired(required = false)
+  private KafkaReplyPartitions replyPartitions;
+  @Autowired(required = false)
+  @Qualifier("applicationTaskExecutor")
+  private Executor replyExecutor;
 
   protected GenericService(
-      ReplyingKafkaTemplate<String, Request<I>, String> replyingKafkaTemplate,
+      ReplyingKafkaTemplate<String, Request<I>, ?> replyingKafkaTemplate,
       KafkaProperties.RequestReplyHandler topics) {
     this.replyingKafkaTemplate = replyingKafkaTemplate;
     this.topics = topics;
   }
 
   GenericService(
-      ReplyingKafkaTemplate<String, Request<I>, String> replyingKafkaTemplate,
+      ReplyingKafkaTemplate<String, Request<I>, ?> replyingKafkaTemplate,
       KafkaProperties.RequestReplyHandler topics,
       DigitalSignatureService digitalSignatureService,
       TraceProvider traceProvider,
       CephService datafactoryResponseCephService,
+      DatafactoryResponseDeletionService datafactoryResponseDeletionService,
       ObjectMapper objectMapper,
       boolean isSigningEnabled,
       String datafactoryResponseBucket) {
@@ -86,6 +150,7 @@ public abstract class GenericService<I, O> implements KafkaService<I, O> {
     this.digitalSignatureService = digitalSignatureService;
     this.traceProvider = traceProvider;
     this.datafactoryResponseCephService = datafactoryResponseCephService;
+    this.datafactoryResponseDeletionService = datafactoryResponseDeletionService;
     this.objectMapper = objectMapper;
     this.isSigningEnabled = isSigningEnabled;
     this.datafactoryResponseBucket = datafactoryResponseBucket;
@@ -95,75 +160,591 @@ public abstract class GenericService<I, O> implements KafkaService<I, O> {
 
   @Override
   public Response<O> request(Request<I> input) {
-    var request = new ProducerRecord<>(topics.getRequest(), traceProvider.getRequestId(), input);
+    var replayKey = getReplayKey(input);
+    if (replayKey != null) {
+      return join(replayCache.execute(replayKey, () -> sendAsync(input, null)));
+    }
 
-    if (isSigningEnabled) {
-      String digitalSeal = digitalSignatureService.sign(input);
-      String cephKey = digitalSignatureService.store(digitalSeal);
+    var permit = acquirePermit();
+    var request = createRequestRecord(input, permit);
+    var responseRecord = sendRequest(input, request, permit);
+    return readResponse(responseRecord);
+  }
+
+  @Override
+  public CompletableFuture<Response<O>> requestAsync(Request<I> input) {
+    return requestAsync(input, null);
+  }
 
-      var signatureHeader = new RecordHeader(DIGITAL_SEAL_KAFKA_HEADER, cephKey.getBytes(UTF_8));
-      request.headers().add(signatureHeader);
+  @Override
+  public CompletableFuture<Response<O>> requestAsync(Request<I> input, Duration replyTimeout) {
+    var replayKey = getReplayKey(input);
+    if (replayKey != null) {
+      return replayCache.execute(replayKey, () -> sendAsync(input, replyTimeout));
     }
+    return sendAsync(input, replyTimeout);
+  }
 
-    var responseRecord = sendRequest(input, request);
+  /**
+   * All requests of the batch share the idempotency key of the incoming HTTP call, so they bypass
+   * {@link KafkaReplayCache}; the sends are pipelined by the producer and the replies are
+   * correlated by the reply container concurrently.
+   */
+  @Override
+  public List<Response<O>> requestAll(List<Request<I>> inputs) {
+    log.info("Sending {} requests to Kafka in bulk", inputs.size());
+    if (concurrencyLimiter == null) {
+      return joinAll(inputs.stream()
+          .map(input -> sendBulkItem(input, null))
+          .collect(Collectors.toList()));
+    }
+    return requestAllWithinLimit(inputs);
+  }
 
-    var cephResponseKeyHeaderValue =
-        getKafkaHeader(responseRecord, ResponseHeaders.CEPH_RESPONSE_KEY);
-    if (cephResponseKeyHeaderValue.isPresent()) {
-      log.info("Reading large response from Ceph");
-      return getResponseFromStorage(cephResponseKeyHeaderValue.get());
-    } else {
-      return fromString(responseRecord.value());
+  /**
+   * The batch is sent in waves of as many requests as the concurrency limit lets in at once, the
+   * next wave is sent when all replies of the previous one are received. Once no slot is free,
+   * the rest of the batch is answered with {@code THIRD_PARTY_SERVICE_UNAVAILABLE}, so requests
+   * that were never sent are not mistaken for ones that failed in data-factory.
+   */
+  private List<Response<O>> requestAllWithinLimit(List<Request<I>> inputs) {
+    var responses = new ArrayList<Response<O>>(inputs.size());
+    while (responses.size() < inputs.size()) {
+      var remaining = inputs.subList(responses.size(), inputs.size());
+      var permits = concurrencyLimiter.tryAcquire(topics.getRequest(), remaining.size());
+      if (permits.isEmpty()) {
+        log.warn("{} bulk Kafka requests rejected, concurrency limit reached", remaining.size());
+        remaining.forEach(input -> responses.add(toRejectedResponse()));
+        break;
+      }
+      var wave = new ArrayList<CompletableFuture<Response<O>>>(permits.size());
+      for (int i = 0; i < permits.size(); i++) {
+        wave.add(sendBulkItem(remaining.get(i), permits.get(i)));
+      }
+      responses.addAll(joinAll(wave));
     }
+    return responses;
+  }
+
+  private List<Response<O>> joinAll(List<CompletableFuture<Response<O>>> replies) {
+    return replies.stream()
+        .map(CompletableFuture::join)
+        .collect(Collectors.toList());
   }
 
-  private ConsumerRecord<String, String> sendRequest(
-      Request<I> input, ProducerRecord<String, Request<I>> request) {
+  private CompletableFuture<Response<O>> sendBulkItem(
+      Request<I> input, KafkaConcurrencyLimiter.Permit permit) {
+    CompletableFuture<Response<O>> reply;
+    try {
+      reply = permit != null ? sendAsync(input, null, permit) : sendAsync(input, null);
+    } catch (RuntimeException e) {
+      reply = CompletableFuture.failedFuture(e);
+    }
+    return reply.exceptionally(this::toFailedResponse);
+  }
+
+  private Response<O> toFailedResponse(Throwable throwable) {
+    var cause = throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause() : throwable;
+    log.error("Bulk Kafka request failed", cause);
+    var response = new Response<O>();
+    response.setStatus(Status.OPERATION_FAILED);
+    response.setDetails(cause.getMessage());
+    return response;
+  }
+
+  private Response<O> toRejectedResponse() {
+    var response = new Response<O>();
+    response.setStatus(Status.THIRD_PARTY_SERVICE_UNAVAILABLE);
+    response.setDetails("Concurrency limit reached for Kafka topic: " + topics.getRequest());
+    return response;
+  }
+
+  /**
+   * Only requests sent with the {@code Idempotency-Key} header by an authenticated user are
+   * replayed by {@link KafkaReplayCache}. The key is scoped to the request topic, the token
+   * subject and the payload hash, so a reused key neither merges different payloads nor returns
+   * the reply of one user to another.
+   */
+  private String getReplayKey(Request<I> input) {
+    if (replayCache == null) {
+      return null;
+    }
+    var idempotencyKey = getIdempotencyKey();
+    var accessToken = input.getSecurityContext() != null
+        ? input.getSecurityContext().getAccessToken() : null;
+    if (idempotencyKey == null || accessToken == null) {
+      return null;
+    }
+    var subject = jwtInfoProvider.getUserClaims(input).getSubject();
+    return String.join(":", idempotencyKey, topics.getRequest(), String.valueOf(subject),
+        hashPayload(input.getPayload()));
+  }
+
+  private String getIdempotencyKey() {
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (!(requestAttributes instanceof ServletRequestAttributes)) {
+      return null;
+    }
+    return ((ServletRequestAttributes) requestAttributes).getRequest()
+        .getHeader(Header.IDEMPOTENCY_KEY.getHeaderName());
+  }
+
+  private String hashPayload(I payload) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    try (var out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+      objectMapper.writeValue(out, payload);
+    } catch (IOException e) {
+      throw new RuntimeJsonMappingException(e.getMessage());
+    }
+    return Base64.getEncoder().encodeToString(digest.digest());
+  }
+
+  private Response<O> join(CompletableFuture<Response<O>> response) {
+    try {
+      return response.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private CompletableFuture<Response<O>> sendAsync(Request<I> input, Duration replyTimeout) {
+    return sendAsync(input, replyTimeout, acquirePermit());
+  }
+
+  private CompletableFuture<Response<O>> sendAsync(
+      Request<I> input, Duration replyTimeout, KafkaConcurrencyLimiter.Permit permit) {
+    var request = createRequestRecord(input, permit);
+
+    log.info("Sending to Kafka asynchronously, topic {}", request.topic());
+    CompletableFuture<? extends ConsumerRecord<String, ?>> replyFuture;
+    try {
+      replyFuture = send(request, replyTimeout).completable();
+    } catch (RuntimeException e) {
+      releasePermit(permit, false);
+      throw e;
+    }
+    return replyFuture
+        .whenComplete((response, e) -> releasePermit(permit, e == null))
+        .exceptionally(e -> {
+          throw new NoKafkaResponseException("No response for request: " + input, e);
+        })
+        .thenApplyAsync(response -> {
+          log.info(
+              "Successfully got response from Kafka, topic: {}, key: {}",
+              response.topic(),
+              response.key());
+          return readResponse(response);
+        }, getReplyExecutor());
+  }
+
+  /**
+   * The permit is taken before the record is built, so requests over the limit are rejected
+   * before the seal is signed and stored and the claim-check payload is put to Ceph. A record that
+   * could not be built says nothing about Kafka, so its permit is returned without changing the
+   * limit.
+   */
+  private ProducerRecord<String, Request<I>> createRequestRecord(
+      Request<I> input, KafkaConcurrencyLimiter.Permit permit) {
+    try {
+      return createRequestRecord(input);
+    } catch (RuntimeException e) {
+      if (permit != null) {
+        permit.onIgnored();
+      }
+      throw e;
+    }
+  }
+
+  private ProducerRecord<String, Request<I>> createRequestRecord(Request<I> input) {
+    var cephRequestKey = storeLargePayload(input.getPayload());
+    var value = cephRequestKey == null ? input
+        : new Request<I>(null, input.getRequestContext(), input.getSecurityContext());
+    var request = new ProducerRecord<>(topics.getRequest(), traceProvider.getRequestId(), value);
+
+    if (isSigningEnabled) {
+      addDigitalSealHeaders(request, digitalSignatureService.sign(input));
+    }
+
+    if (cephRequestKey != null) {
+      request.headers().add(
+          new RecordHeader(CEPH_REQUEST_KEY_KAFKA_HEADER, cephRequestKey.getBytes(UTF_8)));
+    }
+
     var header = new RecordHeader(KafkaHeaders.REPLY_TOPIC, topics.getReply().getBytes());
     request.headers().add(header);
 
-    log.info("Sending to Kafka, topic {}", request.topic());
-    var replyFuture = replyingKafkaTemplate.sendAndReceive(request);
+    var replyCodec = getReplyCodec();
+    if (replyCodec != KafkaPayloadCodec.JSON) {
+      request.headers().add(new RecordHeader(KafkaPayloadCodec.REPLY_CONTENT_TYPE_HEADER,
+          replyCodec.getContentType().getBytes(UTF_8)));
+    }
+
+    var replyPartition = replyPartitions != null ? replyPartitions.next() : null;
+    if (replyPartition != null) {
+      var partitionHeader =
+          new RecordHeader(KafkaHeaders.REPLY_PARTITION, toKafkaHeaderValue(replyPartition));
+      request.headers().add(partitionHeader);
+    }
+    return request;
+  }
+
+  /**
+   * Payloads over {@code data-platform.kafka-request.claim-check.threshold} are put to the
+   * datafactory Ceph bucket and only the key is sent in the header, the same way as large
+   * responses are passed back with the {@link ResponseHeaders#CEPH_RESPONSE_KEY} header.
+   */
+  private String storeLargePayload(I payload) {
+    if (claimCheckThreshold == null || payload == null || !exceedsClaimCheckThreshold(payload)) {
+      return null;
+    }
+    String content;
+    try {
+      content = objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeJsonMappingException(e.getMessage());
+    }
+
+    var key = CEPH_REQUEST_KEY_PREFIX + UUID.randomUUID();
+    log.info("Storing large request payload to Ceph");
+    log.debug("Generated key: {}", key);
+    datafactoryCephService.put(datafactoryBucket, key, content);
+    return key;
+  }
+
+  /**
+   * The payload is measured by writing it to a counting sink, so payloads under the threshold are
+   * not buffered, and the write is stopped as soon as the threshold is crossed.
+   */
+  private boolean exceedsClaimCheckThreshold(I payload) {
+    try {
+      objectMapper.writeValue(new ThresholdOutputStream(claimCheckThreshold.toBytes()), payload);
+      return false;
+    } catch (ThresholdExceededException e) {
+      return true;
+    } catch (IOException e) {
+      throw new RuntimeJsonMappingException(e.getMessage());
+    }
+  }
+
+  private void deleteStoredPayload(ProducerRecord<String, Request<I>> request) {
+    var cephRequestKeyHeader = request.headers().lastHeader(CEPH_REQUEST_KEY_KAFKA_HEADER);
+    if (cephRequestKeyHeader == null) {
+      return;
+    }
+    try {
+      log.info("Deleting large request payload from Ceph after failed send");
+      datafactoryCephService.delete(datafactoryBucket,
+          Set.of(new String(cephRequestKeyHeader.value(), UTF_8)));
+    } catch (RuntimeException e) {
+      log.error("Failed to delete large request payload from Ceph", e);
+    }
+  }
+
+  private KafkaPayloadCodec getReplyCodec() {
+    if (kafkaCodecProperties == null) {
+      return KafkaPayloadCodec.JSON;
+    }
+    return kafkaCodecProperties.getReply()
+        .getOrDefault(topics.getReply(), KafkaPayloadCodec.JSON);
+  }
 
+  /**
+   * Seals that fit into {@code data-platform.kafka-request.signing.inline-max-size} are sent in
+   * the header itself and marked with the {@code digital-seal-storage: inline} discriminator,
+   * larger ones are stored in Ceph and only the key is sent.
+   */
+  private void addDigitalSealHeaders(
+      ProducerRecord<String, Request<I>> request, String digitalSeal) {
+    if (inlineDigitalSealMaxSize != null) {
+      var digitalSealBytes = digitalSeal.getBytes(UTF_8);
+      if (digitalSealBytes.length <= inlineDigitalSealMaxSize.toBytes()) {
+        request.headers().add(new RecordHeader(DIGITAL_SEAL_KAFKA_HEADER, digitalSealBytes));
+        request.headers().add(new RecordHeader(DIGITAL_SEAL_STORAGE_KAFKA_HEADER,
+            DIGITAL_SEAL_STORAGE_INLINE.getBytes(UTF_8)));
+        return;
+      }
+    }
+
+    String cephKey = digitalSignatureService.store(digitalSeal);
+    var signatureHeader = new RecordHeader(DIGITAL_SEAL_KAFKA_HEADER, cephKey.getBytes(UTF_8));
+    request.headers().add(signatureHeader);
+  }
+
+  private ConsumerRecord<String, ?> sendRequest(Request<I> input,
+      ProducerRecord<String, Request<I>> request, KafkaConcurrencyLimiter.Permit permit) {
+    log.info("Sending to Kafka, topic {}", request.topic());
     try {
-      var response = replyFuture.get();
+      var response = send(request, null).get();
+      releasePermit(permit, true);
       log.info(
           "Successfully got response from Kafka, topic: {}, key: {}",
           response.topic(),
           response.key());
       return response;
     } catch (Exception e) {
+      releasePermit(permit, false);
       throw new NoKafkaResponseException("No response for request: " + input, e);
     }
   }
 
+  /**
+   * A payload passed through Ceph is deleted if the record is not delivered to Kafka, as
+   * data-factory never learns its key. It is kept when the reply is missing, as the request may
+   * still be processed.
+   */
+  private RequestReplyFuture<String, Request<I>, ?> send(
+      ProducerRecord<String, Request<I>> request, Duration replyTimeout) {
+    RequestReplyFuture<String, Request<I>, ?> replyFuture;
+    try {
+      replyFuture = replyTimeout == null
+          ? replyingKafkaTemplate.sendAndReceive(request)
+          : replyingKafkaTemplate.sendAndReceive(request, replyTimeout);
+    } catch (RuntimeException e) {
+      deleteStoredPayload(request);
+      throw e;
+    }
+    var sendFuture = replyFuture.getSendFuture();
+    if (sendFuture != null) {
+      sendFuture.addCallback(result -> { }, e -> deleteStoredPayload(request));
+    }
+    return replyFuture;
+  }
+
+  private KafkaConcurrencyLimiter.Permit acquirePermit() {
+    return concurrencyLimiter != null ? concurrencyLimiter.acquire(topics.getRequest()) : null;
+  }
+
+  private void releasePermit(KafkaConcurrencyLimiter.Permit permit, boolean isReplied) {
+    if (permit == null) {
+      return;
+    }
+    if (isReplied) {
+      permit.onSuccess();
+    } else {
+      permit.onDropped();
+    }
+  }
+
+  private Response<O> readResponse(ConsumerRecord<String, ?> responseRecord) {
+    var cephResponseKeyHeaderValue =
+        getKafkaHeader(responseRecord, ResponseHeaders.CEPH_RESPONSE_KEY);
+    if (cephResponseKeyHeaderValue.isPresent()) {
+      log.info("Reading large response from Ceph");
+      return getResponseFromStorage(cephResponseKeyHeaderValue.get());
+    }
+
+    var value = responseRecord.value();
+    if (value instanceof byte[]) {
+      var codec = getKafkaHeader(responseRecord, KafkaPayloadCodec.CONTENT_TYPE_HEADER)
+          .map(this::toReplyCodec)
+          .orElse(KafkaPayloadCodec.JSON);
+      return fromBytes((byte[]) value, codec);
+    }
+    return fromString((String) value);
+  }
+
+  private KafkaPayloadCodec toReplyCodec(String contentType) {
+    try {
+      return KafkaPayloadCodec.fromContentType(contentType);
+    } catch (IllegalArgumentException e) {
+      throw new RuntimeJsonMappingException(e.getMessage());
+    }
+  }
+
+  /**
+   * Replies are completed on the reply listener container thread, so the response parsing (and
+   * the possible Ceph round trip) is moved off it to keep other in-flight replies flowing. The
+   * executor carries over the MDC of the sending thread, so the reply is logged with its trace id.
+   */
+  private Executor getReplyExecutor() {
+    return MdcUtils.withCurrentMdc(
+        replyExecutor != null ? replyExecutor : ForkJoinPool.commonPool());
+  }
+
   private Response<O> getResponseFromStorage(String key) {
-    var responseContent =
+    var cephObject =
         datafactoryResponseCephService
-            .getAsString(datafactoryResponseBucket, key)
+            .get(datafactoryResponseBucket, key)
             .orElseThrow(
                 () ->
                     new KafkaCephResponseNotFoundException(
                         "Kafka response does not exist in ceph bucket"));
 
+    Response<O> response;
+    try (var content = cephObject.getContent()) {
+      validateResponseSize(cephObject.getMetadata());
+      response = fromStream(limitResponseSize(content));
+    } catch (ResponseSizeExceededException e) {
+      throw new KafkaCephResponseTooLargeException(e.getMessage());
+    } catch (IOException e) {
+      throw new CephCommunicationException("Failed to read Kafka response from ceph", e);
+    }
+
     deleteProcessedContentFromStorage(key);
-    return fromString(responseContent);
+    return response;
+  }
+
+  private void validateResponseSize(CephObjectMetadata metadata) {
+    if (maxCephResponseSize == null || metadata == null || metadata.getContentLength() == null) {
+      return;
+    }
+    if (metadata.getContentLength() > maxCephResponseSize.toBytes()) {
+      throw new KafkaCephResponseTooLargeException(
+          String.format(
+              "Kafka response in ceph bucket is %d bytes, the limit is %d bytes",
+              metadata.getContentLength(), maxCephResponseSize.toBytes()));
+    }
+  }
+
+  /**
+   * The declared content length may be missing, so the limit is enforced on the bytes actually
+   * read as well.
+   */
+  private InputStream limitResponseSize(InputStream content) {
+    if (maxCephResponseSize == null) {
+      return content;
+    }
+    return new SizeLimitedInputStream(content, maxCephResponseSize.toBytes());
+  }
+
+  private Response<O> fromStream(InputStream content) throws IOException {
+    try {
+      return getResponseReader(KafkaPayloadCodec.JSON).readValue(content);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeJsonMappingException(e.getMessage());
+    }
+  }
+
+  private Response<O> fromBytes(byte[] content, KafkaPayloadCodec codec) {
+    try {
+      return getResponseReader(codec).readValue(content);
+    } catch (IOException e) {
+      throw new RuntimeJsonMappingException(e.getMessage());
+    }
   }
 
   private Response<O> fromString(String content) {
     try {
-      return objectMapper.readValue(content, type());
+      return getResponseReader(KafkaPayloadCodec.JSON).readValue(content);
     } catch (JsonProcessingException e) {
       throw new RuntimeJsonMappingException(e.getMessage());
     }
   }
 
+  /**
+   * Readers are resolved once per service and codec, so the response type is not re-resolved on
+   * every reply.
+   */
+  private ObjectReader getResponseReader(KafkaPayloadCodec codec) {
+    return responseReaders.computeIfAbsent(codec,
+        key -> key.createObjectMapper(objectMapper).readerFor(type()));
+  }
+
   private void deleteProcessedContentFromStorage(String key) {
-    try {
-      log.info("Deleting large payload from Ceph");
-      datafactoryResponseCephService.delete(datafactoryResponseBucket, Collections.singleton(key));
-    } catch (Exception e) {
-      log.error("Exception while deleting processed message from ceph", e);
+    log.info("Scheduling deletion of large payload from Ceph");
+    datafactoryResponseDeletionService.delete(key);
+  }
+
+  /**
+   * Fails the read once more than the given number of bytes is read. An {@link IOException} is
+   * thrown, as Jackson passes it through instead of wrapping it into a mapping exception.
+   */
+  private static final class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxSize;
+    private long size;
+
+    private SizeLimitedInputStream(InputStream in, long maxSize) {
+      super(in);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+      var b = super.read();
+      if (b != -1) {
+        count(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      var read = super.read(b, off, len);
+      if (read > 0) {
+        count(read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      var skipped = super.skip(n);
+      count(skipped);
+      return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    private void count(long read) throws ResponseSizeExceededException {
+      size += read;
+      if (size > maxSize) {
+        throw new ResponseSizeExceededException(String.format(
+            "Kafka response in ceph bucket exceeds the limit of %d bytes", maxSize));
+      }
+    }
+  }
+
+  private static final class ResponseSizeExceededException extends IOException {
+
+    private ResponseSizeExceededException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * Counts the written bytes without keeping them and fails once more than the threshold is
+   * written.
+   */
+  private static final class ThresholdOutputStream extends OutputStream {
+
+    private final long threshold;
+    private long size;
+
+    private ThresholdOutputStream(long threshold) {
+      this.threshold = threshold;
     }
+
+    @Override
+    public void write(int b) throws IOException {
+      count(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      count(len);
+    }
+
+    private void count(int written) throws ThresholdExceededException {
+      size += written;
+      if (size > threshold) {
+        throw new ThresholdExceededException();
+      }
+    }
+  }
+
+  private static final class ThresholdExceededException extends IOException {
   }
 }
@@ -19,6 +19,7 @@ package com.epam.digital.data.platform.restapi.core.service;
 import com.epam.digital.data.platform.model.core.kafka.Request;
 import com.epam.digital.data.platform.model.core.kafka.SecurityContext;
 import com.epam.digital.data.platform.restapi.core.exception.JwtValidationException;
+import com.epam.digital.data.platform.restapi.core.utils.RequestAttributeCache;
 import com.epam.digital.data.platform.starter.security.dto.JwtClaimsDto;
 import com.epam.digital.data.platform.starter.security.exception.JwtParsingException;
 import com.epam.digital.data.platform.starter.security.jwt.TokenParser;
@@ -28,6 +29,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtInfoProvider {
 
+  private static final String CLAIMS_CACHE_ATTRIBUTE = JwtInfoProvider.class.getName() + ".claims";
+
   private final TokenParser tokenParser;
 
   public JwtInfoProvider(TokenParser tokenParser) {
@@ -37,12 +40,22 @@ public class JwtInfoProvider {
   public <O> JwtClaimsDto getUserClaims(Request<O> input) {
     String accessToken = getTokenFromInput(input);
     try {
-      return tokenParser.parseClaims(accessToken);
+      return parseClaims(accessToken);
     } catch (JwtParsingException e) {
       throw new JwtValidationException("Error while getting JWT claims", e);
     }
   }
 
+  /**
+   * The same access token is read by the header validation filter, the REST audit and the
+   * database audit, so claims parsed within the current request are kept in a request attribute
+   * and reused. The returned claims are shared and must not be modified.
+   */
+  public JwtClaimsDto parseClaims(String accessToken) {
+    return RequestAttributeCache.computeIfAbsent(
+        CLAIMS_CACHE_ATTRIBUTE, accessToken, tokenParser::parseClaims);
+  }
+
   private <O> String getTokenFromInput(Request<O> input) {
     return Optional.ofNullable(input.getSecurityContext())
         .map(SecurityContext::getAccessToken)
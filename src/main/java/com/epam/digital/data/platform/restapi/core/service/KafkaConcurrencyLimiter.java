@@ -0,0 +1,226 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import com.epam.digital.data.platform.restapi.core.exception.KafkaRequestRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits the number of in-flight Kafka requests per request topic. The limit follows the AIMD
+ * scheme: it grows by one for every limit-worth of replies received within the latency threshold
+ * and is multiplied by the backoff ratio when a reply is slow or missing. Requests above the limit
+ * are rejected right away with {@link KafkaRequestRejectedException}.
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "data-platform.kafka-request.concurrency-limit",
+    name = "enabled",
+    havingValue = "true")
+public class KafkaConcurrencyLimiter {
+
+  private final Logger log = LoggerFactory.getLogger(KafkaConcurrencyLimiter.class);
+
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final Duration latencyThreshold;
+  private final Duration retryAfter;
+  private final MeterRegistry meterRegistry;
+
+  private final Map<String, TopicLimit> limits = new ConcurrentHashMap<>();
+
+  public KafkaConcurrencyLimiter(
+      @Value("${data-platform.kafka-request.concurrency-limit.initial-limit:20}") int initialLimit,
+      @Value("${data-platform.kafka-request.concurrency-limit.min-limit:1}") int minLimit,
+      @Value("${data-platform.kafka-request.concurrency-limit.max-limit:200}") int maxLimit,
+      @Value("${data-platform.kafka-request.concurrency-limit.backoff-ratio:0.9}")
+          double backoffRatio,
+      @Value("${data-platform.kafka-request.concurrency-limit.latency-threshold:5s}")
+          Duration latencyThreshold,
+      @Value("${data-platform.kafka-request.concurrency-limit.retry-after:1s}")
+          Duration retryAfter,
+      MeterRegistry meterRegistry) {
+    this.initialLimit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.latencyThreshold = latencyThreshold;
+    this.retryAfter = retryAfter;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Reserves a slot for a request to the given topic. The returned permit must be completed with
+   * either {@link Permit#onSuccess()} or {@link Permit#onDropped()} once the reply is received or
+   * given up on, or with {@link Permit#onIgnored()} if the request is not sent at all.
+   */
+  public Permit acquire(String topic) {
+    var topicLimit = limits.computeIfAbsent(topic, this::createTopicLimit);
+    if (!topicLimit.tryAcquire()) {
+      topicLimit.rejectedCounter.increment();
+      log.warn("Kafka request to topic {} rejected, concurrency limit {} reached",
+          topic, topicLimit.getLimit());
+      throw new KafkaRequestRejectedException(
+          "Concurrency limit reached for Kafka topic: " + topic, retryAfter);
+    }
+    return new Permit(topicLimit, System.nanoTime());
+  }
+
+  /**
+   * Reserves up to the given number of slots for a batch of requests to the given topic, as many
+   * as are free right now. Every returned permit must be completed the same way as the one
+   * returned by {@link #acquire(String)}.
+   *
+   * @return permits for the reserved slots, empty if the limit is reached
+   */
+  public List<Permit> tryAcquire(String topic, int count) {
+    var topicLimit = limits.computeIfAbsent(topic, this::createTopicLimit);
+    var acquired = topicLimit.tryAcquire(count);
+    if (acquired == 0) {
+      topicLimit.rejectedCounter.increment();
+      log.warn("Kafka batch to topic {} rejected, concurrency limit {} reached",
+          topic, topicLimit.getLimit());
+      return List.of();
+    }
+    var startNanos = System.nanoTime();
+    var permits = new ArrayList<Permit>(acquired);
+    for (int i = 0; i < acquired; i++) {
+      permits.add(new Permit(topicLimit, startNanos));
+    }
+    return permits;
+  }
+
+  int getLimit(String topic) {
+    var topicLimit = limits.get(topic);
+    return topicLimit != null ? topicLimit.getLimit() : initialLimit;
+  }
+
+  private TopicLimit createTopicLimit(String topic) {
+    var topicLimit = new TopicLimit(
+        Counter.builder("kafka.request.concurrency.rejected")
+            .description("Number of Kafka requests rejected by the concurrency limit")
+            .tag("topic", topic)
+            .register(meterRegistry));
+    Gauge.builder("kafka.request.concurrency.limit", topicLimit, TopicLimit::getLimit)
+        .description("Current concurrency limit for Kafka requests")
+        .tag("topic", topic)
+        .register(meterRegistry);
+    Gauge.builder("kafka.request.concurrency.in-flight", topicLimit, TopicLimit::getInFlight)
+        .description("Number of in-flight Kafka requests")
+        .tag("topic", topic)
+        .register(meterRegistry);
+    return topicLimit;
+  }
+
+  public static final class Permit {
+
+    private final TopicLimit topicLimit;
+    private final long startNanos;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit(TopicLimit topicLimit, long startNanos) {
+      this.topicLimit = topicLimit;
+      this.startNanos = startNanos;
+    }
+
+    public void onSuccess() {
+      if (released.compareAndSet(false, true)) {
+        topicLimit.onSuccess(System.nanoTime() - startNanos);
+      }
+    }
+
+    public void onDropped() {
+      if (released.compareAndSet(false, true)) {
+        topicLimit.onDropped();
+      }
+    }
+
+    /**
+     * Frees the slot of a request that was never sent, leaving the limit as it is.
+     */
+    public void onIgnored() {
+      if (released.compareAndSet(false, true)) {
+        topicLimit.onIgnored();
+      }
+    }
+  }
+
+  private final class TopicLimit {
+
+    private final Counter rejectedCounter;
+    private double limit = initialLimit;
+    private int inFlight;
+
+    private TopicLimit(Counter rejectedCounter) {
+      this.rejectedCounter = rejectedCounter;
+    }
+
+    synchronized boolean tryAcquire() {
+      return tryAcquire(1) == 1;
+    }
+
+    synchronized int tryAcquire(int count) {
+      var acquired = Math.max(0, Math.min(count, (int) limit - inFlight));
+      inFlight += acquired;
+      return acquired;
+    }
+
+    synchronized void onSuccess(long latencyNanos) {
+      inFlight--;
+      if (latencyNanos > latencyThreshold.toNanos()) {
+        decrease();
+      } else {
+        limit = Math.min(maxLimit, limit + 1 / limit);
+      }
+    }
+
+    synchronized void onDropped() {
+      inFlight--;
+      decrease();
+    }
+
+    synchronized void onIgnored() {
+      inFlight--;
+    }
+
+    synchronized int getLimit() {
+      return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+      return inFlight;
+    }
+
+    private void decrease() {
+      limit = Math.max(minLimit, limit * backoffRatio);
+    }
+  }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import com.epam.digital.data.platform.integration.ceph.exception.CephCommunicationException;
+import com.epam.digital.data.platform.integration.ceph.model.CephObject;
+import com.epam.digital.data.platform.integration.ceph.service.CephService;
+import com.epam.digital.data.platform.model.core.kafka.Request;
+import com.epam.digital.data.platform.model.core.kafka.Response;
+import com.epam.digital.data.platform.model.core.kafka.SecurityContext;
+import com.epam.digital.data.platform.restapi.core.exception.KafkaRequestRejectedException;
+import com.epam.digital.data.platform.restapi.core.exception.NoKafkaResponseException;
+import com.epam.digital.data.platform.restapi.core.model.KafkaOperationStatus.State;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps track of long Kafka operations submitted in the asynchronous mode. The state of every
+ * operation is put to the datafactory Ceph bucket, so the client can poll it by the operation id
+ * returned with the {@code 202 Accepted} response from any replica, and only the user who
+ * submitted the operation is served its outcome.
+ *
+ * <p>The reply is awaited by the replica the operation was submitted to, so the number of
+ * operations pending on a replica is bounded and new submissions are rejected once the bound is
+ * reached. Outcomes are deleted by the replica once their time to live is over, and an expired
+ * operation is deleted by any replica it is polled from. Objects that are neither polled nor
+ * swept, e.g. left by a replica that was stopped earlier, should be removed by the bucket
+ * lifecycle rule for the {@value #CEPH_OPERATION_KEY_PREFIX} prefix.
+ *
+ * <p>A failed operation keeps only a fixed description of the failure, as the exception message
+ * may include the request payload.
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "data-platform.kafka-request.async-operations",
+    name = "enabled",
+    havingValue = "true")
+public class KafkaOperationService {
+
+  static final String CEPH_OPERATION_KEY_PREFIX = "kafka-operation-";
+  static final String NO_RESPONSE_ERROR = "No response for the request";
+  static final String REQUEST_FAILED_ERROR = "Failed to process the request";
+
+  private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+  private final Logger log = LoggerFactory.getLogger(KafkaOperationService.class);
+
+  private final CephService datafactoryCephService;
+  private final String bucket;
+  private final ObjectMapper objectMapper;
+  private final JwtInfoProvider jwtInfoProvider;
+  private final Duration replyTimeout;
+  private final Duration ttl;
+  private final int maxPending;
+  private final Clock clock;
+
+  private final AtomicInteger pending = new AtomicInteger();
+  private final Map<String, Instant> expirations = new LinkedHashMap<>();
+
+  @Autowired
+  public KafkaOperationService(
+      CephService datafactoryCephService,
+      @Value("${data-platform.kafka-request.async-operations.bucket:${datafactoryceph.bucket}}")
+          String bucket,
+      ObjectMapper objectMapper,
+      JwtInfoProvider jwtInfoProvider,
+      @Value("${data-platform.kafka-request.async-operations.reply-timeout:10m}")
+          Duration replyTimeout,
+      @Value("${data-platform.kafka-request.async-operations.ttl:30m}") Duration ttl,
+      @Value("${data-platform.kafka-request.async-operations.max-pending:10000}")
+          int maxPending) {
+    this(datafactoryCephService, bucket, objectMapper, jwtInfoProvider, replyTimeout, ttl,
+        maxPending, Clock.systemUTC());
+  }
+
+  KafkaOperationService(
+      CephService datafactoryCephService,
+      String bucket,
+      ObjectMapper objectMapper,
+      JwtInfoProvider jwtInfoProvider,
+      Duration replyTimeout,
+      Duration ttl,
+      int maxPending,
+      Clock clock) {
+    this.datafactoryCephService = datafactoryCephService;
+    this.bucket = bucket;
+    this.objectMapper = objectMapper;
+    this.jwtInfoProvider = jwtInfoProvider;
+    this.replyTimeout = replyTimeout;
+    this.ttl = ttl;
+    this.maxPending = maxPending;
+    this.clock = clock;
+  }
+
+  /**
+   * Sends the request with the extended reply timeout and registers the operation.
+   *
+   * @return id of the operation to poll the outcome by
+   * @throws KafkaRequestRejectedException if too many operations are pending on this replica
+   */
+  public <I, O> String submit(KafkaService<I, O> kafkaService, Request<I> request) {
+    var subject = jwtInfoProvider.getUserClaims(request).getSubject();
+    if (pending.incrementAndGet() > maxPending) {
+      pending.decrementAndGet();
+      throw new KafkaRequestRejectedException("Too many pending Kafka operations", RETRY_AFTER);
+    }
+
+    var operationId = UUID.randomUUID().toString();
+    var operation = new Operation(subject, clock.instant());
+    CompletableFuture<Response<O>> future;
+    try {
+      deleteExpired();
+      store(operationId, operation);
+      future = kafkaService.requestAsync(request, replyTimeout);
+    } catch (RuntimeException e) {
+      pending.decrementAndGet();
+      delete(Set.of(operationId));
+      throw e;
+    }
+    log.info("Kafka operation {} submitted", operationId);
+
+    future.whenComplete(
+        (response, throwable) -> complete(operationId, operation, response, throwable));
+    return operationId;
+  }
+
+  /**
+   * Returns the operation if it exists, has not expired and was submitted by the owner of the
+   * given access token. An operation of another user is not distinguished from a missing one.
+   * An expired operation is deleted.
+   */
+  public Optional<Operation> get(String operationId, SecurityContext securityContext) {
+    var subject =
+        jwtInfoProvider.getUserClaims(new Request<>(null, null, securityContext)).getSubject();
+    var operation = datafactoryCephService.get(bucket, CEPH_OPERATION_KEY_PREFIX + operationId)
+        .map(this::read);
+    if (operation.isPresent() && isExpired(operation.get())) {
+      synchronized (expirations) {
+        expirations.remove(operationId);
+      }
+      delete(Set.of(operationId));
+      return Optional.empty();
+    }
+    return operation.filter(op -> Objects.equals(op.getSubject(), subject));
+  }
+
+  private void complete(
+      String operationId, Operation operation, Response<?> response, Throwable throwable) {
+    pending.decrementAndGet();
+    String error = null;
+    if (throwable != null) {
+      log.error("Kafka operation {} failed", operationId, throwable);
+      error = unwrap(throwable) instanceof NoKafkaResponseException
+          ? NO_RESPONSE_ERROR : REQUEST_FAILED_ERROR;
+    }
+    var completed = operation.complete(response, error, clock.instant());
+    try {
+      store(operationId, completed);
+    } catch (RuntimeException e) {
+      log.error("Failed to store outcome of Kafka operation {}", operationId, e);
+      return;
+    }
+    synchronized (expirations) {
+      expirations.put(operationId, completed.getCompletedAt().plus(ttl));
+    }
+    log.info("Kafka operation {} completed", operationId);
+  }
+
+  private void store(String operationId, Operation operation) {
+    String content;
+    try {
+      content = objectMapper.writeValueAsString(operation);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeJsonMappingException(e.getMessage());
+    }
+    datafactoryCephService.put(bucket, CEPH_OPERATION_KEY_PREFIX + operationId, content);
+  }
+
+  private Operation read(CephObject object) {
+    try (var content = object.getContent()) {
+      return objectMapper.readValue(content, Operation.class);
+    } catch (IOException e) {
+      throw new CephCommunicationException("Failed to read Kafka operation from ceph", e);
+    }
+  }
+
+  /**
+   * Deletes the outcomes stored by this replica whose time to live is over. Pending operations
+   * are never deleted.
+   */
+  private void deleteExpired() {
+    Set<String> expired = new HashSet<>();
+    var now = clock.instant();
+    synchronized (expirations) {
+      var iterator = expirations.entrySet().iterator();
+      while (iterator.hasNext()) {
+        var expiration = iterator.next();
+        if (expiration.getValue().isBefore(now)) {
+          expired.add(expiration.getKey());
+          iterator.remove();
+        }
+      }
+    }
+    if (!expired.isEmpty()) {
+      delete(expired);
+    }
+  }
+
+  private void delete(Set<String> operationIds) {
+    Set<String> keys = new HashSet<>();
+    operationIds.forEach(operationId -> keys.add(CEPH_OPERATION_KEY_PREFIX + operationId));
+    try {
+      datafactoryCephService.delete(bucket, keys);
+    } catch (RuntimeException e) {
+      log.error("Failed to delete Kafka operations from ceph", e);
+    }
+  }
+
+  private boolean isExpired(Operation operation) {
+    return operation.getSubmittedAt().plus(replyTimeout).plus(ttl).isBefore(clock.instant())
+        || operation.getCompletedAt() != null
+        && operation.getCompletedAt().plus(ttl).isBefore(clock.instant());
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+
+  public static class Operation {
+
+    private String subject;
+    private Instant submittedAt;
+    private Instant completedAt;
+    private Response<?> response;
+    private String error;
+
+    public Operation() {
+    }
+
+    public Operation(String subject, Instant submittedAt) {
+      this.subject = subject;
+      this.submittedAt = submittedAt;
+    }
+
+    private Operation complete(Response<?> response, String error, Instant completedAt) {
+      var completed = new Operation(subject, submittedAt);
+      completed.setResponse(response);
+      completed.setError(error);
+      completed.setCompletedAt(completedAt);
+      return completed;
+    }
+
+    @JsonIgnore
+    public State getState() {
+      if (completedAt == null) {
+        return State.PENDING;
+      }
+      return error == null ? State.COMPLETED : State.FAILED;
+    }
+
+    public String getSubject() {
+      return subject;
+    }
+
+    public void setSubject(String subject) {
+      this.subject = subject;
+    }
+
+    public Instant getSubmittedAt() {
+      return submittedAt;
+    }
+
+    public void setSubmittedAt(Instant submittedAt) {
+      this.submittedAt = submittedAt;
+    }
+
+    public Instant getCompletedAt() {
+      return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+      this.completedAt = completedAt;
+    }
+
+    public Response<?> getResponse() {
+      return response;
+    }
+
+    public void setResponse(Response<?> response) {
+      this.response = response;
+    }
+
+    /**
+     * Fixed description of the failure. Neither the exception nor its message is kept, as the
+     * outcome may be served by another replica and the message may include the request.
+     */
+    public String getError() {
+      return error;
+    }
+
+    public void setError(String error) {
+      this.error = error;
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deduplicates retried Kafka requests. A request with the key of a request that is still in
+ * flight joins its reply, and a request with the key of a recently completed one gets the cached
+ * reply. Only successfully received replies are cached, so a retry after a failure is sent again.
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "data-platform.kafka-request.replay-cache",
+    name = "enabled",
+    havingValue = "true")
+public class KafkaReplayCache {
+
+  private final Logger log = LoggerFactory.getLogger(KafkaReplayCache.class);
+
+  private final Duration ttl;
+  private final int maxSize;
+  private final Clock clock;
+
+  private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+  private final Map<String, CachedReply> completed = new LinkedHashMap<>();
+
+  private final Counter inFlightHitCounter;
+  private final Counter completedHitCounter;
+  private final Counter missCounter;
+
+  @Autowired
+  public KafkaReplayCache(
+      @Value("${data-platform.kafka-request.replay-cache.ttl:5m}") Duration ttl,
+      @Value("${data-platform.kafka-request.replay-cache.max-size:10000}") int maxSize,
+      MeterRegistry meterRegistry) {
+    this(ttl, maxSize, meterRegistry, Clock.systemUTC());
+  }
+
+  KafkaReplayCache(Duration ttl, int maxSize, MeterRegistry meterRegistry, Clock clock) {
+    this.ttl = ttl;
+    this.maxSize = maxSize;
+    this.clock = clock;
+
+    this.inFlightHitCounter = createCounter(meterRegistry, "hit", "in-flight");
+    this.completedHitCounter = createCounter(meterRegistry, "hit", "completed");
+    this.missCounter = createCounter(meterRegistry, "miss", "none");
+  }
+
+  /**
+   * Returns the reply of the request with the same key if it is in flight or cached, otherwise
+   * sends the request with the given supplier.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> request) {
+    var cached = getCompleted(key);
+    if (cached != null) {
+      log.info("Replaying cached Kafka response for retried request");
+      completedHitCounter.increment();
+      return CompletableFuture.completedFuture((T) cached);
+    }
+
+    var promise = new CompletableFuture<T>();
+    var existing = inFlight.putIfAbsent(key, promise);
+    if (existing != null) {
+      log.info("Joining in-flight Kafka request for retried request");
+      inFlightHitCounter.increment();
+      return (CompletableFuture<T>) existing;
+    }
+
+    cached = getCompleted(key);
+    if (cached != null) {
+      inFlight.remove(key);
+      completedHitCounter.increment();
+      promise.complete((T) cached);
+      return promise;
+    }
+
+    missCounter.increment();
+    try {
+      request.get().whenComplete((reply, throwable) -> {
+        if (throwable == null) {
+          putCompleted(key, reply);
+        }
+        inFlight.remove(key);
+        if (throwable == null) {
+          promise.complete(reply);
+        } else {
+          promise.completeExceptionally(throwable);
+        }
+      });
+    } catch (RuntimeException e) {
+      inFlight.remove(key);
+      promise.completeExceptionally(e);
+      throw e;
+    }
+    return promise;
+  }
+
+  private Object getCompleted(String key) {
+    synchronized (completed) {
+      var cachedReply = completed.get(key);
+      if (cachedReply == null) {
+        return null;
+      }
+      if (cachedReply.expiresAt.isBefore(clock.instant())) {
+        completed.remove(key);
+        return null;
+      }
+      return cachedReply.reply;
+    }
+  }
+
+  private void putCompleted(String key, Object reply) {
+    synchronized (completed) {
+      var now = clock.instant();
+      var iterator = completed.values().iterator();
+      while (iterator.hasNext()) {
+        var cachedReply = iterator.next();
+        if (!cachedReply.expiresAt.isBefore(now) && completed.size() < maxSize) {
+          break;
+        }
+        iterator.remove();
+      }
+      completed.put(key, new CachedReply(reply, now.plus(ttl)));
+    }
+  }
+
+  private static Counter createCounter(MeterRegistry meterRegistry, String result, String source) {
+    return Counter.builder("kafka.request.replay.cache")
+        .description("Number of Kafka requests looked up in the replay cache")
+        .tag("result", result)
+        .tag("source", source)
+        .register(meterRegistry);
+  }
+
+  private static final class CachedReply {
+
+    private final Object reply;
+    private final Instant expiresAt;
+
+    private CachedReply(Object reply, Instant expiresAt) {
+      this.reply = reply;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
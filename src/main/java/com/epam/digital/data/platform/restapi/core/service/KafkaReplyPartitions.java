@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.kafka.common.PartitionInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reply partitions owned by this replica. When they are configured, the reply container is
+ * assigned only to them instead of subscribing to the whole reply topic, and every request asks
+ * data-factory to reply to one of them, so a replica does not fetch the replies of its siblings.
+ *
+ * <p>The partitions are either set explicitly with {@code
+ * data-platform.kafka-request.reply-partition} as a single partition ({@code 3}) or a range
+ * ({@code 4-7}), or derived from the StatefulSet ordinal at the end of the host name with {@code
+ * data-platform.kafka-request.reply-partitions-per-replica}, which keeps them distinct across
+ * replicas. Deriving them requires the service to run as a StatefulSet, whose pods are named
+ * {@code <name>-<ordinal>}, and its replica count set with {@code
+ * data-platform.kafka-request.replicas}. A host name that does not end with an ordinal below the
+ * replica count, e.g. the pod of a Deployment, fails the startup.
+ */
+@Component
+public class KafkaReplyPartitions {
+
+  private static final Pattern PARTITION_RANGE = Pattern.compile("(\\d+)(?:-(\\d+))?");
+  private static final Pattern HOSTNAME_ORDINAL = Pattern.compile(".*-(0|[1-9]\\d{0,8})");
+
+  private final Logger log = LoggerFactory.getLogger(KafkaReplyPartitions.class);
+
+  private final List<Integer> partitions;
+  private final AtomicInteger nextPartition = new AtomicInteger();
+
+  @Autowired
+  public KafkaReplyPartitions(
+      @Value("${data-platform.kafka-request.reply-partition:#{null}}") String replyPartition,
+      @Value("${data-platform.kafka-request.reply-partitions-per-replica:#{null}}")
+          Integer partitionsPerReplica,
+      @Value("${data-platform.kafka-request.replicas:#{null}}") Integer replicas,
+      @Value("${HOSTNAME:}") String hostname) {
+    this.partitions = resolvePartitions(replyPartition, partitionsPerReplica, replicas, hostname);
+    if (!partitions.isEmpty()) {
+      log.info("Kafka replies are routed to partitions {}", partitions);
+    }
+  }
+
+  public boolean isEnabled() {
+    return !partitions.isEmpty();
+  }
+
+  public List<Integer> getPartitions() {
+    return partitions;
+  }
+
+  /**
+   * Partition for the {@code KafkaHeaders.REPLY_PARTITION} header of the next request, the owned
+   * partitions are used in turn. Returns {@code null} when reply partitions are not configured.
+   */
+  public Integer next() {
+    if (partitions.isEmpty()) {
+      return null;
+    }
+    var index = Math.floorMod(nextPartition.getAndIncrement(), partitions.size());
+    return partitions.get(index);
+  }
+
+  /**
+   * Reply container assigned only to the owned partitions of the reply topic, or subscribed to the
+   * whole topic when reply partitions are not configured. Fails if the reply topic does not have
+   * the owned partitions, e.g. when there are more replicas than partitions.
+   */
+  public <R> KafkaMessageListenerContainer<String, R> createReplyContainer(
+      ConsumerFactory<String, R> consumerFactory, String replyTopic) {
+    if (partitions.isEmpty()) {
+      return new KafkaMessageListenerContainer<>(consumerFactory,
+          new ContainerProperties(replyTopic));
+    }
+    validatePartitionsExist(consumerFactory, replyTopic);
+    var topicPartitions = partitions.stream()
+        .map(partition -> new TopicPartitionOffset(replyTopic, partition))
+        .toArray(TopicPartitionOffset[]::new);
+    return new KafkaMessageListenerContainer<>(consumerFactory,
+        new ContainerProperties(topicPartitions));
+  }
+
+  private void validatePartitionsExist(ConsumerFactory<String, ?> consumerFactory,
+      String replyTopic) {
+    List<Integer> existingPartitions;
+    try (var consumer = consumerFactory.createConsumer()) {
+      existingPartitions = consumer.partitionsFor(replyTopic).stream()
+          .map(PartitionInfo::partition)
+          .collect(Collectors.toList());
+    }
+    if (!existingPartitions.containsAll(partitions)) {
+      throw new IllegalStateException(String.format(
+          "Reply topic %s has partitions %s, but this replica is configured to use %s",
+          replyTopic, existingPartitions, partitions));
+    }
+  }
+
+  private static List<Integer> resolvePartitions(
+      String replyPartition, Integer partitionsPerReplica, Integer replicas, String hostname) {
+    if (replyPartition != null && !replyPartition.isBlank()) {
+      return parsePartitions(replyPartition.trim());
+    }
+    if (partitionsPerReplica == null) {
+      return List.of();
+    }
+    if (partitionsPerReplica < 1) {
+      throw new IllegalArgumentException(
+          "Reply partitions per replica must be positive, but was " + partitionsPerReplica);
+    }
+    if (replicas == null || replicas < 1) {
+      throw new IllegalArgumentException(
+          "data-platform.kafka-request.replicas must be set to the StatefulSet replica count to "
+              + "derive reply partitions from the host name, but was " + replicas);
+    }
+    var matcher = HOSTNAME_ORDINAL.matcher(hostname == null ? "" : hostname);
+    var ordinal = matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+    if (ordinal < 0 || ordinal >= replicas) {
+      throw new IllegalStateException(
+          "Cannot derive a replica ordinal below " + replicas + " from host name '" + hostname
+              + "', reply partitions can only be derived for StatefulSet pods; "
+              + "set data-platform.kafka-request.reply-partition explicitly");
+    }
+    var first = ordinal * partitionsPerReplica;
+    return toList(first, first + partitionsPerReplica - 1);
+  }
+
+  private static List<Integer> parsePartitions(String replyPartition) {
+    var matcher = PARTITION_RANGE.matcher(replyPartition);
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException(
+          "Reply partition must be a partition or a range of partitions, but was "
+              + replyPartition);
+    }
+    var first = Integer.parseInt(matcher.group(1));
+    var last = matcher.group(2) == null ? first : Integer.parseInt(matcher.group(2));
+    if (last < first) {
+      throw new IllegalArgumentException("Reply partition range is empty: " + replyPartition);
+    }
+    return toList(first, last);
+  }
+
+  private static List<Integer> toList(int first, int last) {
+    return IntStream.rangeClosed(first, last).boxed().collect(Collectors.toUnmodifiableList());
+  }
+}
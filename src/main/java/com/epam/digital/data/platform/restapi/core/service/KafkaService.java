@@ -18,8 +18,45 @@ package com.epam.digital.data.platform.restapi.core.service;
 
 import com.epam.digital.data.platform.model.core.kafka.Request;
 import com.epam.digital.data.platform.model.core.kafka.Response;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 public interface KafkaService<I, O> {
 
   Response<O> request(Request<I> input);
+
+  /**
+   * Sends the request without blocking the calling thread; the returned future is completed when
+   * the reply is received and parsed, or exceptionally with {@code NoKafkaResponseException}.
+   * The default implementation runs {@link #request(Request)} on the common pool.
+   */
+  default CompletableFuture<Response<O>> requestAsync(Request<I> input) {
+    return CompletableFuture.supplyAsync(() -> request(input));
+  }
+
+  /**
+   * Same as {@link #requestAsync(Request)}, but waits for the reply up to the given timeout
+   * instead of the default reply timeout of the template. Meant for long operations that are
+   * tracked with {@link KafkaOperationService}. The default implementation cannot change the reply
+   * timeout and falls back to {@link #requestAsync(Request)}.
+   */
+  default CompletableFuture<Response<O>> requestAsync(Request<I> input, Duration replyTimeout) {
+    return requestAsync(input);
+  }
+
+  /**
+   * Sends all requests at once and waits for the replies concurrently. Responses are returned in
+   * the order of the requests; a request that got no reply is represented by a response with the
+   * {@code OPERATION_FAILED} status instead of failing the whole batch, and a request that was not
+   * sent because of the concurrency limit by one with the {@code THIRD_PARTY_SERVICE_UNAVAILABLE}
+   * status. The default implementation sends the requests one by one with
+   * {@link #request(Request)} and lets its exceptions through.
+   */
+  default List<Response<O>> requestAll(List<Request<I>> inputs) {
+    return inputs.stream()
+        .map(this::request)
+        .collect(Collectors.toList());
+  }
 }
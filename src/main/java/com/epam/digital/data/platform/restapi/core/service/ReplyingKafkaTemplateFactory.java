@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import com.epam.digital.data.platform.model.core.kafka.Request;
+import com.epam.digital.data.platform.restapi.core.config.KafkaCodecProperties;
+import com.epam.digital.data.platform.restapi.core.converter.kafka.KafkaPayloadSerializer;
+import com.epam.digital.data.platform.starter.kafka.config.properties.KafkaProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the {@link ReplyingKafkaTemplate} used by a {@link GenericService}: requests to a topic
+ * with a configured request codec are written by {@link KafkaPayloadSerializer}, and replies are
+ * read by the container of {@link KafkaReplyPartitions}.
+ */
+@Component
+public class ReplyingKafkaTemplateFactory {
+
+  private final KafkaReplyPartitions replyPartitions;
+  private final KafkaCodecProperties kafkaCodecProperties;
+  private final ObjectMapper objectMapper;
+
+  public ReplyingKafkaTemplateFactory(KafkaReplyPartitions replyPartitions,
+      KafkaCodecProperties kafkaCodecProperties, ObjectMapper objectMapper) {
+    this.replyPartitions = replyPartitions;
+    this.kafkaCodecProperties = kafkaCodecProperties;
+    this.objectMapper = objectMapper;
+  }
+
+  public <I, R> ReplyingKafkaTemplate<String, Request<I>, R> create(
+      ProducerFactory<String, Request<I>> producerFactory,
+      ConsumerFactory<String, R> consumerFactory,
+      KafkaProperties.RequestReplyHandler topics) {
+    return new ReplyingKafkaTemplate<>(
+        withPayloadSerializer(producerFactory, topics.getRequest()),
+        replyPartitions.createReplyContainer(consumerFactory, topics.getReply()));
+  }
+
+  /**
+   * Topics without a request codec keep the serializer of the given producer factory, so the
+   * requests stay byte-compatible with consumers that do not read the content type header.
+   */
+  <I> ProducerFactory<String, Request<I>> withPayloadSerializer(
+      ProducerFactory<String, Request<I>> producerFactory, String requestTopic) {
+    var requestCodecs = kafkaCodecProperties.getRequest();
+    if (!requestCodecs.containsKey(requestTopic)) {
+      return producerFactory;
+    }
+    return new DefaultKafkaProducerFactory<>(
+        producerFactory.getConfigurationProperties(),
+        producerFactory.getKeySerializerSupplier(),
+        () -> new KafkaPayloadSerializer<>(requestCodecs, objectMapper));
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers signature and data pairs that were successfully verified by the digital signature
+ * service, so that retried or duplicated submissions are not verified again. Only hashes of the
+ * signature and the data are kept, and only positive results are cached.
+ *
+ * <p>A cached result is not checked against certificate revocation again, so a signature made
+ * with a certificate revoked after the first verification is still accepted until the entry
+ * expires. The cache is therefore off by default, and the time to live bounds how late a
+ * revocation may be noticed.
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "data-platform.signature.verification-cache",
+    name = "enabled",
+    havingValue = "true")
+public class SignatureVerificationCache {
+
+  private static final String HASH_ALGORITHM = "SHA-256";
+
+  private final Duration ttl;
+  private final Clock clock;
+  private final Map<String, Instant> verified;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  @Autowired
+  public SignatureVerificationCache(
+      @Value("${data-platform.signature.verification-cache.ttl:1m}") Duration ttl,
+      @Value("${data-platform.signature.verification-cache.max-size:10000}") int maxSize,
+      MeterRegistry meterRegistry) {
+    this(ttl, maxSize, meterRegistry, Clock.systemUTC());
+  }
+
+  SignatureVerificationCache(
+      Duration ttl, int maxSize, MeterRegistry meterRegistry, Clock clock) {
+    this.ttl = ttl;
+    this.clock = clock;
+    this.verified = new LinkedHashMap<>() {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Instant> eldest) {
+        return size() > maxSize;
+      }
+    };
+
+    this.hitCounter = createCounter(meterRegistry, "hit");
+    this.missCounter = createCounter(meterRegistry, "miss");
+  }
+
+  public boolean isVerified(String signature, String data) {
+    var key = toKey(signature, data);
+    synchronized (verified) {
+      var expiresAt = verified.get(key);
+      if (expiresAt != null && !expiresAt.isBefore(clock.instant())) {
+        hitCounter.increment();
+        return true;
+      }
+      if (expiresAt != null) {
+        verified.remove(key);
+      }
+    }
+    missCounter.increment();
+    return false;
+  }
+
+  public void putVerified(String signature, String data) {
+    var key = toKey(signature, data);
+    synchronized (verified) {
+      verified.put(key, clock.instant().plus(ttl));
+    }
+  }
+
+  private static String toKey(String signature, String data) {
+    return hash(signature) + ":" + hash(data);
+  }
+
+  private static String hash(String value) {
+    try {
+      var digest = MessageDigest.getInstance(HASH_ALGORITHM)
+          .digest(String.valueOf(value).getBytes(UTF_8));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Hash algorithm is not available: " + HASH_ALGORITHM, e);
+    }
+  }
+
+  private static Counter createCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("digital.signature.verification.cache")
+        .description("Number of signature verifications looked up in the cache")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -30,7 +30,9 @@ public enum Header {
   X_SOURCE_BUSINESS_ACTIVITY_INSTANCE_ID("X-Source-Business-Activity-Instance-Id"),
   X_SOURCE_ROOT_BUSINESS_PROCESS_INSTANCE_ID("X-Source-Root-Business-Process-Instance-Id"),
 
-  TRACE_ID("X-B3-TraceId");
+  TRACE_ID("X-B3-TraceId"),
+
+  IDEMPOTENCY_KEY("Idempotency-Key");
 
   private final String headerName;
 
@@ -16,6 +16,7 @@
 
 package com.epam.digital.data.platform.restapi.core.utils;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -34,4 +35,8 @@ public final class KafkaUtils {
         .map(String::new)
         .findFirst();
   }
+
+  public static byte[] toKafkaHeaderValue(int value) {
+    return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+  }
 }
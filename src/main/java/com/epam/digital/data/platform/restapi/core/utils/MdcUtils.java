@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.utils;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.slf4j.MDC;
+
+public final class MdcUtils {
+
+  private MdcUtils() {
+  }
+
+  /**
+   * Wraps the executor so that its tasks run with the MDC of the thread calling this method, e.g.
+   * to keep the trace id in the logs of a reply processed on a pool thread.
+   */
+  public static Executor withCurrentMdc(Executor executor) {
+    var mdcContext = MDC.getCopyOfContextMap();
+    return command -> executor.execute(() -> runWithMdc(mdcContext, command));
+  }
+
+  /**
+   * Runs the task with the given MDC and restores the MDC of the current thread afterwards.
+   */
+  public static void runWithMdc(Map<String, String> mdcContext, Runnable task) {
+    var previousMdcContext = MDC.getCopyOfContextMap();
+    setMdcContext(mdcContext);
+    try {
+      task.run();
+    } finally {
+      setMdcContext(previousMdcContext);
+    }
+  }
+
+  private static void setMdcContext(Map<String, String> mdcContext) {
+    if (mdcContext == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(mdcContext);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+public final class RequestAttributeCache {
+
+  private RequestAttributeCache() {
+  }
+
+  /**
+   * Returns the value cached under the key in the given attribute of the current request, loading
+   * and caching it on the first call. A {@code null} value is not cached. Outside of a request the
+   * value is loaded every time.
+   */
+  public static <K, V> V computeIfAbsent(String attribute, K key, Function<K, V> loader) {
+    Map<K, V> requestCache = getRequestCache(attribute);
+    if (requestCache == null || key == null) {
+      return loader.apply(key);
+    }
+    var cached = requestCache.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    var value = loader.apply(key);
+    if (value != null) {
+      requestCache.put(key, value);
+    }
+    return value;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K, V> Map<K, V> getRequestCache(String attribute) {
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes == null) {
+      return null;
+    }
+    var requestCache =
+        (Map<K, V>) requestAttributes.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+    if (requestCache == null) {
+      requestCache = new ConcurrentHashMap<>();
+      requestAttributes.setAttribute(attribute, requestCache, RequestAttributes.SCOPE_REQUEST);
+    }
+    return requestCache;
+  }
+}
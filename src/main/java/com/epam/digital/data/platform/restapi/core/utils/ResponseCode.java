@@ -42,6 +42,7 @@ public final class ResponseCode {
   public static final String JWT_EXPIRED = "JWT_EXPIRED";
   public static final String FORBIDDEN_OPERATION = "FORBIDDEN_OPERATION";
   public static final String FILE_WAS_CHANGED = "FILE_WAS_CHANGED";
+  public static final String PAYLOAD_TOO_LARGE = "PAYLOAD_TOO_LARGE";
 
   private ResponseCode() {
   }
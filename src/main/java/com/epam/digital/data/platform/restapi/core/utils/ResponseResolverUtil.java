@@ -21,14 +21,21 @@ import com.epam.digital.data.platform.restapi.core.exception.KafkaConstraintViol
 import com.epam.digital.data.platform.restapi.core.exception.KafkaSecurityValidationFailedException;
 import com.epam.digital.data.platform.restapi.core.exception.KafkaInternalServerException;
 import com.epam.digital.data.platform.restapi.core.exception.NotFoundException;
+import com.epam.digital.data.platform.restapi.core.model.KafkaOperationStatus;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiFunction;
 
 public final class ResponseResolverUtil {
 
+  public static final String KAFKA_OPERATIONS_PATH = "/operations";
+
   private static final Map<HttpStatus, BiFunction<Response<?>, HttpStatus, RuntimeException>>
       httpErrorCodeToException =
           Map.of(
@@ -59,4 +66,47 @@ public final class ResponseResolverUtil {
     return ResponseEntity.status(httpStatus)
         .body(kafkaResponse.getPayload());
   }
+
+  public static <T> CompletableFuture<ResponseEntity<T>> getHttpResponseFromKafkaAsync(
+      CompletableFuture<Response<T>> kafkaResponse) {
+    return kafkaResponse.thenApply(response -> getHttpResponseFromKafka(response));
+  }
+
+  public static <T> DeferredResult<ResponseEntity<T>> getDeferredHttpResponseFromKafka(
+      CompletableFuture<Response<T>> kafkaResponse) {
+    var deferredResult = new DeferredResult<ResponseEntity<T>>();
+    kafkaResponse.whenComplete((response, throwable) -> {
+      if (throwable != null) {
+        deferredResult.setErrorResult(unwrap(throwable));
+        return;
+      }
+      try {
+        deferredResult.setResult(getHttpResponseFromKafka(response));
+      } catch (RuntimeException e) {
+        deferredResult.setErrorResult(e);
+      }
+    });
+    return deferredResult;
+  }
+
+  /**
+   * Builds the {@code 202 Accepted} response for an operation submitted to {@code
+   * KafkaOperationService}, pointing to the endpoint the outcome can be polled from.
+   */
+  public static ResponseEntity<KafkaOperationStatus> getAcceptedHttpResponse(String operationId) {
+    var location = ServletUriComponentsBuilder.fromCurrentContextPath()
+        .path(KAFKA_OPERATIONS_PATH + "/{operationId}")
+        .buildAndExpand(operationId)
+        .toUri();
+    return ResponseEntity.accepted()
+        .location(location)
+        .body(new KafkaOperationStatus(operationId, KafkaOperationStatus.State.PENDING));
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
 }
@@ -138,7 +138,7 @@ class ControllerAdviceFilteredTest {
   @BeforeEach
   void beforeEach() {
     when(traceProvider.getRequestId()).thenReturn(TRACE_ID);
-    when(digitalSignatureService.copySignature(any())).thenReturn(SIGNATURE);
+    when(digitalSignatureService.copySignatureAndGetChecksum(any())).thenReturn(SIGNATURE);
 
     var filtersExclude = new WebConfigProperties.Filters();
     filtersExclude.setExclude(List.of("/"));
@@ -46,9 +46,14 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -123,6 +128,35 @@ class AuditDatabaseEventsAspectTest {
         .sendDbAudit(any(), any(), any(), any(), any(), any(), any(), any());
   }
 
+  @Test
+  void expectSingleAuditPairForFindByIdsMethod() {
+    abstractQueryHandler.findByIds(
+        mockRequest(ACCESS_TOKEN, List.of(ENTITY_ID, "123e4567-e89b-12d3-a456-426655440001")));
+
+    verify(databaseEventsFacade, times(2))
+        .sendDbAudit(any(), any(), eq(DatabaseAuditProcessor.READ_ALL), any(), any(),
+            eq("123e4567-e89b-12d3-a456-426655440000,123e4567-e89b-12d3-a456-426655440001"),
+            any(), any());
+  }
+
+  @Test
+  void expectCappedIdListAndRowCountInFindByIdsAudit() {
+    var ids = IntStream.range(0, DatabaseAuditProcessor.MAX_AUDITED_IDS + 50)
+        .mapToObj(i -> String.format("123e4567-e89b-12d3-a456-%012d", i))
+        .collect(Collectors.toList());
+
+    abstractQueryHandler.findByIds(mockRequest(ACCESS_TOKEN, ids));
+
+    var expectedIds = String.join(",", ids.subList(0, DatabaseAuditProcessor.MAX_AUDITED_IDS))
+        + ",...(+50 more)";
+    verify(databaseEventsFacade)
+        .sendDbAudit(any(), any(), eq(DatabaseAuditProcessor.READ_ALL), any(),
+            eq(DatabaseAuditProcessor.BEFORE), eq(expectedIds), any(), any());
+    verify(databaseEventsFacade)
+        .sendDbAudit(any(), any(), eq(DatabaseAuditProcessor.READ_ALL), any(),
+            eq(DatabaseAuditProcessor.AFTER), startsWith(ids.get(0)), any(), notNull());
+  }
+
   @Test
   @DirtiesContext
   void expectAuditAspectBeforeAndAfterSearchMethodWhenNoException() {
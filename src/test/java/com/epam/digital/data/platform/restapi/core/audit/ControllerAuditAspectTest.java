@@ -17,6 +17,7 @@
 package com.epam.digital.data.platform.restapi.core.audit;
 
 import com.epam.digital.data.platform.model.core.kafka.RequestContext;
+import com.epam.digital.data.platform.model.core.kafka.Response;
 import com.epam.digital.data.platform.model.core.kafka.SecurityContext;
 import com.epam.digital.data.platform.model.core.kafka.Status;
 import com.epam.digital.data.platform.restapi.core.controller.impl.MockFileFieldController;
@@ -31,20 +32,31 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestComponent;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.epam.digital.data.platform.restapi.core.util.ControllerTestUtils.mockResponse;
 import static com.epam.digital.data.platform.restapi.core.util.ControllerTestUtils.mockSuccessResponse;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -265,6 +277,86 @@ class ControllerAuditAspectTest {
     verify(restAuditEventsFacade).sendRestAudit(any(), any(), any(), any(), any(), any(), any());
   }
 
+  @Test
+  void expectAuditAspectAfterOnlyWhenAsyncResponseCompleted() {
+    var kafkaResponse = new CompletableFuture<Response<MockEntity>>();
+    when(mockService.readAsync(any())).thenReturn(kafkaResponse);
+
+    var result =
+        controller.findByIdMockEntityAsync(ENTITY_ID, mockRequestContext, mockSecurityContext);
+
+    verify(restAuditEventsFacade)
+        .sendRestAudit(any(), any(), any(), any(), eq(ControllerAuditAspect.BEFORE), any(), any());
+    verify(restAuditEventsFacade, never())
+        .sendRestAudit(any(), any(), any(), any(), eq(ControllerAuditAspect.AFTER), any(), any());
+
+    kafkaResponse.complete(mockSuccessResponse());
+
+    assertThat(result).isCompleted();
+    verify(restAuditEventsFacade)
+        .sendRestAudit(any(), any(), any(), any(), eq(ControllerAuditAspect.AFTER), any(), any());
+  }
+
+  @Test
+  void expectAuditAspectOnlyBeforeWhenAsyncResponseFailed() {
+    var kafkaResponse = new CompletableFuture<Response<MockEntity>>();
+    when(mockService.readAsync(any())).thenReturn(kafkaResponse);
+
+    var result =
+        controller.findByIdMockEntityAsync(ENTITY_ID, mockRequestContext, mockSecurityContext);
+    kafkaResponse.completeExceptionally(new RuntimeException());
+
+    assertThat(result).isCompletedExceptionally();
+    verify(restAuditEventsFacade)
+        .sendRestAudit(any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void expectAsyncAuditAspectAfterSentWithCallerMdc() {
+    var kafkaResponse = new CompletableFuture<Response<MockEntity>>();
+    when(mockService.readAsync(any())).thenReturn(kafkaResponse);
+    var afterTraceId = new AtomicReference<String>();
+    doAnswer(invocation -> {
+      afterTraceId.set(MDC.get("traceId"));
+      return null;
+    }).when(restAuditEventsFacade)
+        .sendRestAudit(any(), any(), any(), any(), eq(ControllerAuditAspect.AFTER), any(), any());
+
+    MDC.put("traceId", "trace");
+    try {
+      controller.findByIdMockEntityAsync(ENTITY_ID, mockRequestContext, mockSecurityContext);
+    } finally {
+      MDC.clear();
+    }
+    CompletableFuture.runAsync(() -> kafkaResponse.complete(mockSuccessResponse())).join();
+
+    assertThat(afterTraceId.get()).isEqualTo("trace");
+  }
+
+  @Test
+  void expectAuditAspectAfterOnlyWhenDeferredResponseCompleted() {
+    var kafkaResponse = new CompletableFuture<Response<MockEntity>>();
+    when(mockService.readAsync(any())).thenReturn(kafkaResponse);
+    var request = new MockHttpServletRequest();
+    request.setAsyncSupported(true);
+    var asyncManager = WebAsyncUtils.getAsyncManager(request);
+    asyncManager.setAsyncWebRequest(
+        new StandardServletAsyncWebRequest(request, new MockHttpServletResponse()));
+
+    var result =
+        controller.findByIdMockEntityDeferred(ENTITY_ID, mockRequestContext, mockSecurityContext);
+    asyncManager.startDeferredResultProcessing(result);
+    kafkaResponse.complete(mockSuccessResponse());
+
+    verify(restAuditEventsFacade, never())
+        .sendRestAudit(any(), any(), any(), any(), eq(ControllerAuditAspect.AFTER), any(), any());
+
+    request.getAsyncContext().complete();
+
+    verify(restAuditEventsFacade)
+        .sendRestAudit(any(), any(), any(), any(), eq(ControllerAuditAspect.AFTER), any(), any());
+  }
+
   @Test
   void expectAuditAspectNonCalledIfNonRestControllerCall() {
     nonControllerClient.postNonController();
@@ -17,6 +17,7 @@
 package com.epam.digital.data.platform.restapi.core.audit;
 
 import com.epam.digital.data.platform.restapi.core.model.audit.ExceptionAuditEvent;
+import com.epam.digital.data.platform.restapi.core.service.JwtInfoProvider;
 import com.epam.digital.data.platform.restapi.core.service.TraceProvider;
 import com.epam.digital.data.platform.starter.audit.model.AuditEvent;
 import com.epam.digital.data.platform.starter.audit.model.AuditSourceInfo;
@@ -100,7 +101,8 @@ class RestAuditEventsFacadeTest {
   void beforeEach() {
     restAuditEventsFacade =
         new RestAuditEventsFacade(
-            auditService, APP_NAME, clock, traceProvider, auditSourceInfoProvider, tokenParser);
+            auditService, APP_NAME, clock, traceProvider, auditSourceInfoProvider,
+            new JwtInfoProvider(tokenParser));
 
     when(traceProvider.getRequestId()).thenReturn(REQUEST_ID);
 
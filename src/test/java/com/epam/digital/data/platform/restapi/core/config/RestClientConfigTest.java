@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.dso.client.DigitalSealRestClient;
+import feign.Client;
+import feign.httpclient.ApacheHttpClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RestClientConfigTest {
+
+  private final RestClientConfig restClientConfig = new RestClientConfig();
+
+  private final ApplicationContextRunner feignContextRunner = new ApplicationContextRunner()
+      .withUserConfiguration(SignatureFeignClientConfiguration.class)
+      .withBean(CloseableHttpClient.class, HttpClients::createDefault);
+
+  @Test
+  void expectPoolSettingsTakenFromFeignHttpClientProperties() {
+    var properties = new FeignHttpClientProperties();
+    properties.setMaxConnections(7);
+    properties.setMaxConnectionsPerRoute(3);
+    var meterRegistry = new SimpleMeterRegistry();
+
+    var connectionManager = restClientConfig.signatureConnectionManager(properties, meterRegistry);
+
+    assertThat(connectionManager.getMaxTotal()).isEqualTo(7);
+    assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(3);
+    assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+        .tag("httpclient", RestClientConfig.POOL_NAME).gauge().value()).isEqualTo(7);
+    connectionManager.shutdown();
+  }
+
+  @Test
+  void expectConnectTimeoutFromPropertiesAndReadTimeoutLeftToFeign() throws Exception {
+    var properties = new FeignHttpClientProperties();
+    properties.setConnectionTimeout(1234);
+    var connectionManager =
+        restClientConfig.signatureConnectionManager(properties, new SimpleMeterRegistry());
+
+    try (var httpClient = restClientConfig.signatureHttpClient(connectionManager, properties)) {
+      var requestConfig = (RequestConfig) ReflectionTestUtils.getField(httpClient, "defaultConfig");
+
+      assertThat(requestConfig.getConnectTimeout()).isEqualTo(1234);
+      assertThat(requestConfig.getSocketTimeout())
+          .isEqualTo(RequestConfig.DEFAULT.getSocketTimeout());
+    }
+  }
+
+  @Test
+  void expectPooledClientInSignatureClientContext() {
+    feignContextRunner
+        .withPropertyValues("feign.client.name=" + signatureClientName())
+        .run(context -> assertThat(context).getBean(Client.class)
+            .isInstanceOf(ApacheHttpClient.class));
+  }
+
+  @Test
+  void expectNoPooledClientInOtherClientContext() {
+    feignContextRunner
+        .withPropertyValues("feign.client.name=other-client")
+        .run(context -> assertThat(context).doesNotHaveBean(Client.class));
+  }
+
+  private String signatureClientName() {
+    var feignClient =
+        AnnotatedElementUtils.findMergedAnnotation(DigitalSealRestClient.class, FeignClient.class);
+    return feignClient.contextId().isEmpty() ? feignClient.name() : feignClient.contextId();
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.controller;
+
+import static com.epam.digital.data.platform.restapi.core.util.ControllerTestUtils.mockSuccessResponse;
+import static com.epam.digital.data.platform.restapi.core.utils.Header.X_ACCESS_TOKEN;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.epam.digital.data.platform.model.core.kafka.Response;
+import com.epam.digital.data.platform.restapi.core.audit.RestAuditEventsFacade;
+import com.epam.digital.data.platform.restapi.core.config.SecurityConfiguration;
+import com.epam.digital.data.platform.restapi.core.config.SecurityContextResolver;
+import com.epam.digital.data.platform.restapi.core.dto.MockEntity;
+import com.epam.digital.data.platform.restapi.core.exception.ApplicationExceptionHandler;
+import com.epam.digital.data.platform.restapi.core.service.KafkaOperationService;
+import com.epam.digital.data.platform.restapi.core.service.KafkaOperationService.Operation;
+import com.epam.digital.data.platform.restapi.core.service.TraceProvider;
+import com.epam.digital.data.platform.restapi.core.utils.ResponseCode;
+import com.epam.digital.data.platform.starter.security.config.SecurityProperties;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@WebMvcTest
+@ContextConfiguration(
+    classes = {
+      KafkaOperationController.class,
+      ApplicationExceptionHandler.class,
+      KafkaOperationControllerTest.ResolverConfig.class
+    })
+@TestPropertySource(properties = "data-platform.kafka-request.async-operations.enabled=true")
+@SecurityConfiguration
+class KafkaOperationControllerTest {
+
+  private static final String BASE_URL = "/operations";
+  private static final String ACCESS_TOKEN = "token";
+  private static final String OPERATION_ID = UUID.randomUUID().toString();
+  private static final Instant SUBMITTED_AT = Instant.parse("2023-01-01T00:00:00Z");
+
+  @Autowired
+  private MockMvc mockMvc;
+  @MockBean
+  private KafkaOperationService kafkaOperationService;
+  @MockBean
+  private RestAuditEventsFacade restAuditEventsFacade;
+  @MockBean
+  private TraceProvider traceProvider;
+  @MockBean
+  private SecurityProperties securityProperties;
+
+  @Test
+  void shouldReturnAcceptedWhilePending() throws Exception {
+    mockOperation(new Operation("subject", SUBMITTED_AT));
+
+    mockMvc.perform(get(BASE_URL + "/{id}", OPERATION_ID)
+            .header(X_ACCESS_TOKEN.getHeaderName(), ACCESS_TOKEN))
+        .andExpect(status().isAccepted())
+        .andExpectAll(
+            jsonPath("$.operationId").value(is(OPERATION_ID)),
+            jsonPath("$.state").value(is("PENDING")));
+  }
+
+  @Test
+  void shouldReturnReplyWhenCompleted() throws Exception {
+    var entity = new MockEntity();
+    entity.setPersonFullName("Some Name");
+    Response<MockEntity> response = mockSuccessResponse(entity);
+    var operation = new Operation("subject", SUBMITTED_AT);
+    operation.setCompletedAt(SUBMITTED_AT.plusSeconds(1));
+    operation.setResponse(response);
+    mockOperation(operation);
+
+    mockMvc.perform(get(BASE_URL + "/{id}", OPERATION_ID)
+            .header(X_ACCESS_TOKEN.getHeaderName(), ACCESS_TOKEN))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.personFullName").value(is("Some Name")));
+  }
+
+  @Test
+  void shouldMapFailureOfOperation() throws Exception {
+    var operation = new Operation("subject", SUBMITTED_AT);
+    operation.setCompletedAt(SUBMITTED_AT.plusSeconds(1));
+    operation.setError("timeout");
+    mockOperation(operation);
+
+    mockMvc.perform(get(BASE_URL + "/{id}", OPERATION_ID)
+            .header(X_ACCESS_TOKEN.getHeaderName(), ACCESS_TOKEN))
+        .andExpect(status().isInternalServerError())
+        .andExpect(jsonPath("$.code").value(is(ResponseCode.TIMEOUT_ERROR)));
+  }
+
+  @Test
+  void shouldReturnNotFoundForUnknownOperation() throws Exception {
+    when(kafkaOperationService.get(any(), any())).thenReturn(Optional.empty());
+
+    mockMvc.perform(get(BASE_URL + "/{id}", UUID.randomUUID())
+            .header(X_ACCESS_TOKEN.getHeaderName(), ACCESS_TOKEN))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.code").value(is(ResponseCode.NOT_FOUND)));
+  }
+
+  private void mockOperation(Operation operation) {
+    when(kafkaOperationService.get(
+            eq(OPERATION_ID),
+            argThat(securityContext -> ACCESS_TOKEN.equals(securityContext.getAccessToken()))))
+        .thenReturn(Optional.of(operation));
+  }
+
+  @TestConfiguration
+  static class ResolverConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+      resolvers.add(new SecurityContextResolver());
+    }
+  }
+}
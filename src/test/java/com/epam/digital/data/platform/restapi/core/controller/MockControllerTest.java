@@ -37,6 +37,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static com.epam.digital.data.platform.restapi.core.util.ControllerTestUtils.DATE_TIME_FORMATTER;
 import static com.epam.digital.data.platform.restapi.core.util.ControllerTestUtils.mockResponse;
@@ -44,12 +45,14 @@ import static com.epam.digital.data.platform.restapi.core.util.ControllerTestUti
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(
@@ -84,6 +87,44 @@ public class MockControllerTest {
             jsonPath("$.consentDate", is("2012-11-27T10:45:12.123Z")));
   }
 
+  @Test
+  void expectValidMockEntityByIdAsync() throws Exception {
+    Response<MockEntity> response = mockSuccessResponse(mockPayload(MOCK_ID));
+    when(mockService.readAsync(any())).thenReturn(CompletableFuture.completedFuture(response));
+
+    var result = mockMvc
+        .perform(get(BASE_URL + "/async/{id}", MOCK_ID))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpectAll(
+            status().isOk(),
+            content().contentType(MediaType.APPLICATION_JSON),
+            jsonPath("$.consentId", is(MOCK_ID.toString())));
+  }
+
+  @Test
+  void expectValidMockEntityByIdDeferred() throws Exception {
+    Response<MockEntity> response = mockSuccessResponse(mockPayload(MOCK_ID));
+    var kafkaResponse = new CompletableFuture<Response<MockEntity>>();
+    when(mockService.readAsync(any())).thenReturn(kafkaResponse);
+
+    var result = mockMvc
+        .perform(get(BASE_URL + "/deferred/{id}", MOCK_ID))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    kafkaResponse.complete(response);
+
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpectAll(
+            status().isOk(),
+            content().contentType(MediaType.APPLICATION_JSON),
+            jsonPath("$.consentId", is(MOCK_ID.toString())));
+  }
+
   @Test
   void expectMockEntityIsCreated() throws Exception {
     when(mockService.create(any())).thenReturn(mockResponse(Status.CREATED));
@@ -37,9 +37,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import javax.validation.Valid;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/mock")
@@ -71,6 +73,28 @@ public class MockController {
     return ResponseResolverUtil.getHttpResponseFromKafka(response);
   }
 
+  @AuditableController
+  @GetMapping("/async/{id}")
+  public CompletableFuture<ResponseEntity<MockEntity>> findByIdMockEntityAsync(
+      @PathVariable("id") UUID id,
+      @HttpRequestContext RequestContext context,
+      @HttpSecurityContext SecurityContext securityContext) {
+    Request<UUID> request = new Request<>(id, context, securityContext);
+    var response = mockService.readAsync(request);
+    return ResponseResolverUtil.getHttpResponseFromKafkaAsync(response);
+  }
+
+  @AuditableController
+  @GetMapping("/deferred/{id}")
+  public DeferredResult<ResponseEntity<MockEntity>> findByIdMockEntityDeferred(
+      @PathVariable("id") UUID id,
+      @HttpRequestContext RequestContext context,
+      @HttpSecurityContext SecurityContext securityContext) {
+    Request<UUID> request = new Request<>(id, context, securityContext);
+    var response = mockService.readAsync(request);
+    return ResponseResolverUtil.getDeferredHttpResponseFromKafka(response);
+  }
+
   @AuditableController
   @PostMapping
   public ResponseEntity<Void> createMockEntity(
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.converter.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.io.IOException;
+import java.util.Map;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+class KafkaPayloadSerializerTest {
+
+  static final String SMILE_TOPIC = "smile-topic";
+  static final String CBOR_TOPIC = "cbor-topic";
+  static final String JSON_TOPIC = "json-topic";
+
+  KafkaPayloadSerializer<Map<String, String>> serializer =
+      new KafkaPayloadSerializer<>(Map.of(SMILE_TOPIC, KafkaPayloadCodec.SMILE), new ObjectMapper());
+
+  @Test
+  void shouldSerializeWithTopicCodecAndSetContentType() throws IOException {
+    var headers = new RecordHeaders();
+
+    var bytes = serializer.serialize(SMILE_TOPIC, headers, Map.of("field", "value"));
+
+    assertThat(new String(headers.lastHeader(KafkaPayloadCodec.CONTENT_TYPE_HEADER).value()))
+        .isEqualTo(KafkaPayloadCodec.SMILE.getContentType());
+    assertThat(KafkaPayloadCodec.SMILE.createObjectMapper(new ObjectMapper())
+        .readValue(bytes, Map.class))
+        .isEqualTo(Map.of("field", "value"));
+  }
+
+  @Test
+  void shouldSerializeAsJsonByDefault() {
+    var headers = new RecordHeaders();
+
+    var bytes = serializer.serialize(JSON_TOPIC, headers, Map.of("field", "value"));
+
+    assertThat(new String(headers.lastHeader(KafkaPayloadCodec.CONTENT_TYPE_HEADER).value()))
+        .isEqualTo(KafkaPayloadCodec.JSON.getContentType());
+    assertThat(new String(bytes)).isEqualTo("{\"field\":\"value\"}");
+  }
+
+  @Test
+  void shouldKeepApplicationObjectMapperSettings() throws IOException {
+    var applicationObjectMapper = new ObjectMapper()
+        .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    var cborSerializer = new KafkaPayloadSerializer<MockPayload>(
+        Map.of(CBOR_TOPIC, KafkaPayloadCodec.CBOR), applicationObjectMapper);
+
+    var bytes = cborSerializer.serialize(CBOR_TOPIC, new MockPayload("value"));
+
+    assertThat(new ObjectMapper(new CBORFactory()).readValue(bytes, Map.class))
+        .isEqualTo(Map.of("field_name", "value"));
+  }
+
+  @Test
+  void shouldResolveCodecFromContentType() {
+    assertThat(KafkaPayloadCodec.fromContentType("application/cbor"))
+        .isEqualTo(KafkaPayloadCodec.CBOR);
+  }
+
+  @Test
+  void shouldRejectUnknownContentType() {
+    assertThrows(IllegalArgumentException.class,
+        () -> KafkaPayloadCodec.fromContentType("text/plain"));
+  }
+
+  static class MockPayload {
+
+    private final String fieldName;
+
+    MockPayload(String fieldName) {
+      this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+      return fieldName;
+    }
+  }
+}
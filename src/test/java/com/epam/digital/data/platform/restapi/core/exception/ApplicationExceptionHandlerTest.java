@@ -25,6 +25,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,6 +43,7 @@ import com.epam.digital.data.platform.restapi.core.service.TraceProvider;
 import com.epam.digital.data.platform.restapi.core.utils.ResponseCode;
 import com.epam.digital.data.platform.starter.security.config.SecurityProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,6 +51,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.test.context.ContextConfiguration;
@@ -98,6 +101,30 @@ class ApplicationExceptionHandlerTest extends ResponseEntityExceptionHandler {
             jsonPath("$.details").doesNotExist());
   }
 
+  @Test
+  void shouldReturnServiceUnavailableWithRetryAfterOnKafkaRequestRejected() throws Exception {
+    when(mockService.read(any()))
+        .thenThrow(new KafkaRequestRejectedException("limit reached", Duration.ofMillis(1500)));
+
+    mockMvc.perform(get(BASE_URL + "/{id}", ENTITY_ID))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+        .andExpectAll(
+            jsonPath("$.traceId").value(is(TRACE_ID)),
+            jsonPath("$.code").value(is(ResponseCode.THIRD_PARTY_SERVICE_UNAVAILABLE)));
+  }
+
+  @Test
+  void shouldReturnPayloadTooLargeOnRequestBodyTooLarge() throws Exception {
+    when(mockService.read(any())).thenThrow(new RequestBodyTooLargeException(1024));
+
+    mockMvc.perform(get(BASE_URL + "/{id}", ENTITY_ID))
+        .andExpect(status().isPayloadTooLarge())
+        .andExpectAll(
+            jsonPath("$.traceId").value(is(TRACE_ID)),
+            jsonPath("$.code").value(is(ResponseCode.PAYLOAD_TOO_LARGE)));
+  }
+
   @Test
   void shouldReturnRuntimeErrorOnSqlErrorException() throws Exception {
     when(mockService.read(any())).thenThrow(SqlErrorException.class);
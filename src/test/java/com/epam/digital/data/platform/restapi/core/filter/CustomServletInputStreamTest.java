@@ -24,7 +24,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.servlet.ReadListener;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
@@ -100,6 +103,35 @@ class CustomServletInputStreamTest {
     verify(readListener).onError(ioException);
   }
 
+  @Test
+  void shouldReadInBulk() throws IOException {
+    var buffer = new byte[6];
+
+    assertEquals(6, inputStream.read(buffer, 0, 6));
+    assertEquals("10char", new String(buffer, StandardCharsets.UTF_8));
+    assertEquals(4, inputStream.read(buffer, 1, 5));
+    assertEquals("sStr", new String(buffer, 1, 4, StandardCharsets.UTF_8));
+    assertEquals(-1, inputStream.read(buffer, 0, 6));
+    assertTrue(inputStream.isFinished());
+  }
+
+  @Test
+  void shouldReturnRemainingBytes() throws IOException {
+    readChars(2);
+
+    assertArrayEquals("charsStr".getBytes(StandardCharsets.UTF_8), inputStream.readAllBytes());
+    assertEquals(-1, inputStream.read());
+  }
+
+  @Test
+  void shouldReturnBytesAsUnsignedValues() throws IOException {
+    inputStream = new CustomServletInputStream(new byte[] {(byte) 0xd0, 0x00});
+
+    assertEquals(0xd0, inputStream.read());
+    assertEquals(0, inputStream.read());
+    assertEquals(-1, inputStream.read());
+  }
+
   private void readChars(int times) throws IOException {
     for (int i = 0; i < times; i++) {
       inputStream.read();
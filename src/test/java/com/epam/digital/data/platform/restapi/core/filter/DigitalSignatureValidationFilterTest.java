@@ -18,6 +18,7 @@ package com.epam.digital.data.platform.restapi.core.filter;
 
 import static com.epam.digital.data.platform.restapi.core.utils.Header.X_DIGITAL_SIGNATURE;
 import static com.epam.digital.data.platform.restapi.core.utils.Header.X_DIGITAL_SIGNATURE_DERIVED;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.codec.digest.DigestUtils.sha256Hex;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -32,12 +33,13 @@ import static org.mockito.Mockito.when;
 import com.epam.digital.data.platform.dso.client.exception.InvalidSignatureException;
 import com.epam.digital.data.platform.model.core.kafka.SecurityContext;
 import com.epam.digital.data.platform.restapi.core.config.WebConfigProperties;
+import com.epam.digital.data.platform.restapi.core.exception.DigitalSignatureNotFoundException;
+import com.epam.digital.data.platform.restapi.core.exception.RequestBodyTooLargeException;
 import com.epam.digital.data.platform.restapi.core.service.DigitalSignatureService;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.StringReader;
 import java.util.List;
+import java.util.concurrent.Executors;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -54,6 +56,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.util.unit.DataSize;
 
 @ExtendWith(SpringExtension.class)
 class DigitalSignatureValidationFilterTest {
@@ -83,6 +86,7 @@ class DigitalSignatureValidationFilterTest {
   private ObjectMapper mapper = new ObjectMapper();
 
   private WebConfigProperties webConfigProperties;
+  private RequestClassifier requestClassifier;
   @Captor
   private ArgumentCaptor<SecurityContext> securityContextCaptor;
   @Captor
@@ -95,12 +99,15 @@ class DigitalSignatureValidationFilterTest {
     webConfigProperties = new WebConfigProperties();
     webConfigProperties.setFilters(new WebConfigProperties.Filters());
     webConfigProperties.getFilters().setExclude(List.of("/path"));
+    requestClassifier = new RequestClassifier(webConfigProperties);
 
     filter =
         new DigitalSignatureValidationFilter(
-            webConfigProperties, digitalSignatureService, mapper, true);
+            webConfigProperties, requestClassifier, digitalSignatureService,
+            mapper, true, Runnable::run);
 
-    when(digitalSignatureService.copySignature(any())).thenReturn("");
+    when(digitalSignatureService.copySignatureAndGetChecksum(any()))
+        .thenReturn(HASH_OF_EMPTY_STRING);
 
     when(request.getHeader(X_DIGITAL_SIGNATURE.getHeaderName()))
         .thenReturn(X_DIGITAL_SIGNATURE_VALUE);
@@ -111,7 +118,7 @@ class DigitalSignatureValidationFilterTest {
     when(request.getContextPath()).thenReturn("/");
     when(request.getPathInfo()).thenReturn(URL);
     when(request.getMethod()).thenReturn("DELETE");
-    when(request.getReader()).thenReturn(new BufferedReader(new StringReader(REQUEST_BODY)));
+    when(request.getInputStream()).thenReturn(new CustomServletInputStream(REQUEST_BODY));
 
     securityContext = new SecurityContext();
     securityContext.setDigitalSignature(X_DIGITAL_SIGNATURE_VALUE);
@@ -147,6 +154,37 @@ class DigitalSignatureValidationFilterTest {
     verify(digitalSignatureService).checkSignature(REQUEST_BODY, securityContext);
   }
 
+  @Test
+  void shouldCheckSignatureAgainstExactBodyBytes() throws IOException, ServletException {
+    var body = "{\r\n  \"name\": \"Тарас\"\r\n}\n";
+    when(request.getMethod()).thenReturn("POST");
+    when(request.getInputStream()).thenReturn(new CustomServletInputStream(body));
+
+    filter.doFilter(request, response, filterChain);
+
+    verify(digitalSignatureService).checkSignature(body, securityContext);
+    verify(filterChain).doFilter(requestCaptor.capture(), eq(response));
+    var forwarded = (MultiReadHttpServletRequest) requestCaptor.getValue();
+    assertEquals(body, new String(forwarded.getInputStream().readAllBytes(), UTF_8));
+    assertEquals(body, new String(forwarded.getInputStream().readAllBytes(), UTF_8));
+  }
+
+  @Test
+  void shouldRejectBodyAboveMaxSizeBeforeSignatureCheck() {
+    webConfigProperties.getBodyCache().setMaxSize(DataSize.ofBytes(4));
+    filter =
+        new DigitalSignatureValidationFilter(
+            webConfigProperties, requestClassifier, digitalSignatureService,
+            mapper, true, Runnable::run);
+    when(request.getMethod()).thenReturn("POST");
+
+    Assertions.assertThrows(
+        RequestBodyTooLargeException.class,
+        () -> filter.doFilter(request, response, filterChain));
+
+    verifyNoInteractions(digitalSignatureService, filterChain);
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"POST", "PUT", "PATCH"})
   void methodPostMultiReadRequest(String arg) throws IOException, ServletException {
@@ -215,10 +253,10 @@ class DigitalSignatureValidationFilterTest {
     when(request.getMethod()).thenReturn("POST");
     when(request.getHeader(X_DIGITAL_SIGNATURE_DERIVED.getHeaderName()))
         .thenReturn(X_DIGITAL_SIGNATURE_DERIVED_VALUE);
-    when(digitalSignatureService.copySignature(X_DIGITAL_SIGNATURE_VALUE)).thenReturn(
-        SIGNATURE_CEPH_OBJECT);
-    when(digitalSignatureService.copySignature(X_DIGITAL_SIGNATURE_DERIVED_VALUE)).thenReturn(
-        SIGNATURE_DERIVED_CEPH_OBJECT);
+    when(digitalSignatureService.copySignatureAndGetChecksum(X_DIGITAL_SIGNATURE_VALUE))
+        .thenReturn(sha256Hex(SIGNATURE_CEPH_OBJECT));
+    when(digitalSignatureService.copySignatureAndGetChecksum(X_DIGITAL_SIGNATURE_DERIVED_VALUE))
+        .thenReturn(sha256Hex(SIGNATURE_DERIVED_CEPH_OBJECT));
 
     filter.doFilter(request, response, filterChain);
 
@@ -231,12 +269,34 @@ class DigitalSignatureValidationFilterTest {
     assertEquals(sha256Hex(SIGNATURE_DERIVED_CEPH_OBJECT), resultDerivedSignatureChecksum);
   }
 
+  @Test
+  void shouldCopySignaturesOnExecutorAndRethrowItsFailure() {
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      filter =
+          new DigitalSignatureValidationFilter(
+              webConfigProperties, requestClassifier, digitalSignatureService,
+              mapper, true, executor);
+      when(request.getMethod()).thenReturn("POST");
+      when(digitalSignatureService.copySignatureAndGetChecksum(X_DIGITAL_SIGNATURE_VALUE))
+          .thenThrow(new DigitalSignatureNotFoundException("not found"));
+
+      Assertions.assertThrows(DigitalSignatureNotFoundException.class,
+          () -> filter.doFilter(request, response, filterChain));
+      verify(digitalSignatureService)
+          .copySignatureAndGetChecksum(X_DIGITAL_SIGNATURE_DERIVED_VALUE);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"POST", "PUT", "PATCH"})
   void skipWhenDisabled(String arg) throws ServletException, IOException {
     filter =
         new DigitalSignatureValidationFilter(
-            webConfigProperties, digitalSignatureService, mapper, false);
+            webConfigProperties, requestClassifier, digitalSignatureService,
+            mapper, false, Runnable::run);
     when(request.getMethod()).thenReturn(arg);
 
     filter.doFilter(request, response, filterChain);
@@ -249,7 +309,8 @@ class DigitalSignatureValidationFilterTest {
   void sameRequestWhenDisabled(String arg) throws ServletException, IOException {
     filter =
         new DigitalSignatureValidationFilter(
-            webConfigProperties, digitalSignatureService, mapper, false);
+            webConfigProperties, requestClassifier, digitalSignatureService,
+            mapper, false, Runnable::run);
     when(request.getMethod()).thenReturn(arg);
 
     filter.doFilter(request, response, filterChain);
@@ -263,7 +324,8 @@ class DigitalSignatureValidationFilterTest {
   void setScEvenWhenDisabled(String arg) throws ServletException, IOException {
     filter =
         new DigitalSignatureValidationFilter(
-            webConfigProperties, digitalSignatureService, mapper, false);
+            webConfigProperties, requestClassifier, digitalSignatureService,
+            mapper, false, Runnable::run);
     when(request.getMethod()).thenReturn(arg);
 
     filter.doFilter(request, response, filterChain);
@@ -282,7 +344,8 @@ class DigitalSignatureValidationFilterTest {
     webConfigProperties.getFilters().setExclude(List.of("/some/**"));
     filter =
             new DigitalSignatureValidationFilter(
-                    webConfigProperties, digitalSignatureService, mapper, true);
+                    webConfigProperties, requestClassifier, digitalSignatureService,
+                    mapper, true, Runnable::run);
 
     filter.doFilter(request, response, filterChain);
 
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.restapi.core.exception.RequestBodyTooLargeException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class MultiReadHttpServletRequestTest {
+
+  private static final String BODY = "{\"name\":\"Тарас\"}\r\n";
+
+  @Test
+  void shouldReReadCachedBody() throws IOException {
+    var request = new MultiReadHttpServletRequest(requestWithBody(BODY), 2048);
+
+    assertThat(request.getBodySize()).isEqualTo(bytes(BODY).length);
+    assertThat(request.getBodyAsString()).isEqualTo(BODY);
+    assertThat(request.getInputStream().readAllBytes()).isEqualTo(bytes(BODY));
+    assertThat(request.getInputStream().readAllBytes()).isEqualTo(bytes(BODY));
+    assertThat(request.getReader().readLine()).isEqualTo("{\"name\":\"Тарас\"}");
+  }
+
+  @Test
+  void shouldRejectByContentLengthWithoutReadingBody() throws IOException {
+    var request = mock(HttpServletRequest.class);
+    when(request.getContentLengthLong()).thenReturn(100L);
+
+    assertThrows(RequestBodyTooLargeException.class,
+        () -> new MultiReadHttpServletRequest(request, 50));
+    verify(request, never()).getInputStream();
+  }
+
+  @Test
+  void shouldRejectWhileReadingWhenContentLengthIsUnknown() throws IOException {
+    var request = mock(HttpServletRequest.class);
+    when(request.getContentLengthLong()).thenReturn(-1L);
+    when(request.getInputStream()).thenReturn(new CustomServletInputStream(BODY));
+
+    assertThrows(RequestBodyTooLargeException.class,
+        () -> new MultiReadHttpServletRequest(request, 8));
+  }
+
+  @Test
+  void shouldNotSizeBufferFromDeclaredContentLength() throws IOException {
+    var request = mock(HttpServletRequest.class);
+    when(request.getContentLengthLong()).thenReturn(50L * 1024 * 1024);
+    when(request.getInputStream()).thenReturn(new CustomServletInputStream(BODY));
+
+    var multiReadRequest = new MultiReadHttpServletRequest(request, 3L * 1024 * 1024 * 1024);
+
+    assertThat(multiReadRequest.getBodyAsString()).isEqualTo(BODY);
+    assertThat(MultiReadHttpServletRequest.initialCapacity(50L * 1024 * 1024))
+        .isEqualTo(64 * 1024);
+    assertThat(MultiReadHttpServletRequest.initialCapacity(-1)).isEqualTo(8192);
+  }
+
+  private MockHttpServletRequest requestWithBody(String body) {
+    var request = new MockHttpServletRequest("POST", "/test");
+    request.setContent(bytes(body));
+    return request;
+  }
+
+  private byte[] bytes(String body) {
+    return body.getBytes(StandardCharsets.UTF_8);
+  }
+}
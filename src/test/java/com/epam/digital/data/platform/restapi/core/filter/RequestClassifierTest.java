@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.restapi.core.config.WebConfigProperties;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class RequestClassifierTest {
+
+  private WebConfigProperties webConfigProperties;
+  private RequestClassifier requestClassifier;
+
+  @BeforeEach
+  void init() {
+    webConfigProperties = new WebConfigProperties();
+    webConfigProperties.getFilters().setExclude(List.of("/actuator/**"));
+    requestClassifier = new RequestClassifier(webConfigProperties);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "get, false, false",
+      "post, true, true",
+      "put, true, true",
+      "delete, true, true",
+      "patch, false, true"
+  })
+  void shouldClassifyByMethod(String method, boolean modifying, boolean signatureApplicable) {
+    var descriptor = requestClassifier.classify(new MockHttpServletRequest(method, "/mock"));
+
+    assertThat(descriptor.getMethod()).isEqualTo(method.toUpperCase());
+    assertThat(descriptor.isExcluded()).isFalse();
+    assertThat(descriptor.isModifying()).isEqualTo(modifying);
+    assertThat(descriptor.isSignatureApplicable()).isEqualTo(signatureApplicable);
+  }
+
+  @Test
+  void shouldMarkExcludedPath() {
+    var request = new MockHttpServletRequest("POST", "/actuator/health");
+    request.setServletPath("/actuator/health");
+
+    assertThat(requestClassifier.classify(request).isExcluded()).isTrue();
+  }
+
+  @Test
+  void shouldClassifyRequestOnlyOnce() {
+    var request = new MockHttpServletRequest("POST", "/mock");
+
+    var descriptor = requestClassifier.classify(request);
+
+    assertThat(request.getAttribute(RequestClassifier.REQUEST_DESCRIPTOR_ATTRIBUTE))
+        .isSameAs(descriptor);
+    assertThat(requestClassifier.classify(request)).isSameAs(descriptor);
+  }
+
+  @Test
+  void shouldPickUpReplacedExcludePatterns() {
+    var request = new MockHttpServletRequest("GET", "/mock");
+    request.setServletPath("/mock");
+    assertThat(requestClassifier.classify(request).isExcluded()).isFalse();
+
+    webConfigProperties.getFilters().setExclude(List.of("/mock"));
+    var next = new MockHttpServletRequest("GET", "/mock");
+    next.setServletPath("/mock");
+
+    assertThat(requestClassifier.classify(next).isExcluded()).isTrue();
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.queryhandler;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.SelectFieldOrAsterisk;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares building and rendering the findById select on every call with binding the id into the
+ * SQL rendered once by {@link AbstractQueryHandler}. The template variant still renders the plain
+ * SQL query, as its execution does. Run {@link #main(String[])} from the test classpath; the GC
+ * profiler reports the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FindByIdQueryBenchmark {
+
+  private static final List<SelectFieldOrAsterisk> SELECT_FIELDS = List.of(
+      DSL.field("consent_id"),
+      DSL.field("person_full_name"),
+      DSL.field("person_pass_number"));
+
+  private final DSLContext context = DSL.using(SQLDialect.POSTGRES);
+  private final UUID id = UUID.randomUUID();
+
+  private String sql;
+  private Object[] bindValues;
+
+  @Setup
+  public void setUp() {
+    var query = buildQuery();
+    sql = context.render(query);
+    bindValues = query.getBindValues().toArray();
+  }
+
+  @Benchmark
+  public String renderPerCall() {
+    return context.render(buildQuery());
+  }
+
+  @Benchmark
+  public String bindIntoTemplate() {
+    var values = bindValues.clone();
+    values[values.length - 1] = id;
+    return context.render(context.resultQuery(sql, values));
+  }
+
+  private Select<?> buildQuery() {
+    return context
+        .select(SELECT_FIELDS)
+        .from(DSL.table("table"))
+        .where(DSL.field("id").eq(id));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(FindByIdQueryBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build())
+        .run();
+  }
+}
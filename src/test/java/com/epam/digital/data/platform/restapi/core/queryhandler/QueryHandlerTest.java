@@ -17,7 +17,9 @@
 package com.epam.digital.data.platform.restapi.core.queryhandler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -31,8 +33,13 @@ import com.epam.digital.data.platform.restapi.core.service.JwtInfoProvider;
 import com.epam.digital.data.platform.restapi.core.tabledata.TableDataProvider;
 import com.epam.digital.data.platform.starter.security.dto.JwtClaimsDto;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.jooq.Condition;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -72,6 +79,70 @@ class QueryHandlerTest {
         () -> assertEquals("АА000000", record.getPersonPassNumber()));
   }
 
+  @Test
+  void expectFindByIdQueryIsRenderedOnce() {
+    when(tableDataProvider.tableName()).thenReturn("table");
+    when(tableDataProvider.pkColumnName()).thenReturn("id");
+    Request<UUID> input = getMockRequest(TestDataProvider.ENTITY_ID);
+
+    queryHandler.findById(input);
+    var template = ReflectionTestUtils.getField(queryHandler, "findByIdTemplate");
+    var record = queryHandler.findById(input);
+
+    assertSame(template, ReflectionTestUtils.getField(queryHandler, "findByIdTemplate"));
+    assertEquals("Roman", record.map(MockEntity::getPersonFullName).orElse(null));
+  }
+
+  @Test
+  void expectFindByIdsReadsDistinctIdsInChunks() {
+    when(tableDataProvider.tableName()).thenReturn("table");
+    when(tableDataProvider.pkColumnName()).thenReturn("id");
+    ReflectionTestUtils.setField(queryHandler, "findByIdsChunkSize", 1);
+    Request<Collection<UUID>> input = getMockRequest(List.of(
+        TestDataProvider.ENTITY_ID, TestDataProvider.ENTITY_ID_2, TestDataProvider.ENTITY_ID));
+
+    var result = queryHandler.findByIds(input);
+
+    ReflectionTestUtils.setField(queryHandler, "findByIdsChunkSize", 1000);
+    assertEquals(2, result.size());
+    assertEquals("Roman", result.get(0).getPersonFullName());
+  }
+
+  @Test
+  void expectFindByIdsReadsIdsOneByOneWhenCommonConditionIsOverridden() {
+    when(tableDataProvider.tableName()).thenReturn("table");
+    when(tableDataProvider.pkColumnName()).thenReturn("id");
+    var conditionIds = new ArrayList<UUID>();
+    var handler = new QueryHandlerTestImpl(tableDataProvider) {
+      @Override
+      public Condition getCommonCondition(Request<UUID> input) {
+        conditionIds.add(input.getPayload());
+        return DSL.field("id").eq(input.getPayload());
+      }
+    };
+    ReflectionTestUtils.setField(handler, "context",
+        ReflectionTestUtils.getField(queryHandler, "context"));
+    Request<Collection<UUID>> input = getMockRequest(
+        List.of(TestDataProvider.ENTITY_ID, TestDataProvider.ENTITY_ID_2));
+
+    var result = handler.findByIds(input);
+
+    assertEquals(2, result.size());
+    assertEquals(List.of(TestDataProvider.ENTITY_ID, TestDataProvider.ENTITY_ID_2), conditionIds);
+  }
+
+  @Test
+  void expectNonPositiveFindByIdsChunkSizeIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> queryHandler.setFindByIdsChunkSize(0));
+  }
+
+  @Test
+  void expectFindByIdsReturnsEmptyListForNoIds() {
+    Request<Collection<UUID>> input = getMockRequest(List.of());
+
+    assertTrue(queryHandler.findByIds(input).isEmpty());
+  }
+
   @Test
   void expectAuditAspectOnlyBeforeWhenExceptionOnSearchMethod() {
     ReflectionTestUtils.setField(queryHandler, "jwtInfoProvider", jwtInfoProvider);
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.searchhandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.restapi.core.exception.InvalidCursorException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+  private static final Field<String> NAME = DSL.field("person_full_name", String.class);
+  private static final Field<UUID> ID = DSL.field("id", UUID.class);
+  private static final List<Field<?>> KEY_FIELDS = List.of(NAME, ID);
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  @Test
+  void expectCursorRoundTripsTypedKeyValues() {
+    var id = UUID.randomUUID();
+    var lastRow = DSL.using(SQLDialect.POSTGRES).newRecord(NAME, ID);
+    lastRow.values("John Doe", id);
+
+    var cursor = KeysetCursor.encode(lastRow, KEY_FIELDS, objectMapper);
+
+    assertThat(KeysetCursor.decode(cursor, KEY_FIELDS, objectMapper))
+        .containsExactly("John Doe", id);
+  }
+
+  @Test
+  void expectCursorRoundTripsTimestampKeysWithoutLosingPrecision() {
+    var createdAt = DSL.field("created_at", LocalDateTime.class);
+    var updatedAt = DSL.field("updated_at", OffsetDateTime.class);
+    var keyFields = List.<Field<?>>of(createdAt, updatedAt, ID);
+    var localValue = LocalDateTime.of(2023, 5, 17, 10, 15, 30, 123456789);
+    var offsetValue = OffsetDateTime.of(2023, 5, 17, 10, 15, 30, 123456789, ZoneOffset.ofHours(3));
+    var id = UUID.randomUUID();
+    var lastRow = DSL.using(SQLDialect.POSTGRES).newRecord(createdAt, updatedAt, ID);
+    lastRow.values(localValue, offsetValue, id);
+
+    var cursor = KeysetCursor.encode(lastRow, keyFields, objectMapper);
+
+    assertThat(KeysetCursor.decode(cursor, keyFields, objectMapper))
+        .containsExactly(localValue, offsetValue, id);
+  }
+
+  @Test
+  void expectCursorRoundTripsDecimalKeysWithScale() {
+    var amount = DSL.field("amount", BigDecimal.class);
+    var keyFields = List.<Field<?>>of(amount, ID);
+    var value = new BigDecimal("12345678901234567890.1230");
+    var id = UUID.randomUUID();
+    var lastRow = DSL.using(SQLDialect.POSTGRES).newRecord(amount, ID);
+    lastRow.values(value, id);
+
+    var cursor = KeysetCursor.encode(lastRow, keyFields, objectMapper);
+
+    assertThat(KeysetCursor.decode(cursor, keyFields, objectMapper))
+        .containsExactly(value, id);
+  }
+
+  @Test
+  void expectNullKeyValueIsRejected() {
+    var lastRow = DSL.using(SQLDialect.POSTGRES).newRecord(NAME, ID);
+    lastRow.values(null, UUID.randomUUID());
+
+    assertThrows(IllegalStateException.class,
+        () -> KeysetCursor.encode(lastRow, KEY_FIELDS, objectMapper));
+  }
+
+  @Test
+  void expectCursorWithNullValueIsRejected() {
+    var cursor = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString("[null,\"id\"]".getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(InvalidCursorException.class,
+        () -> KeysetCursor.decode(cursor, KEY_FIELDS, objectMapper));
+  }
+
+  @Test
+  void expectMalformedCursorIsRejected() {
+    assertThrows(InvalidCursorException.class,
+        () -> KeysetCursor.decode("not a cursor", KEY_FIELDS, objectMapper));
+  }
+
+  @Test
+  void expectCursorForOtherSortKeysIsRejected() {
+    var lastRow = DSL.using(SQLDialect.POSTGRES).newRecord(ID);
+    lastRow.values(UUID.randomUUID());
+    var cursor = KeysetCursor.encode(lastRow, List.of(ID), objectMapper);
+
+    assertThrows(InvalidCursorException.class,
+        () -> KeysetCursor.decode(cursor, KEY_FIELDS, objectMapper));
+  }
+}
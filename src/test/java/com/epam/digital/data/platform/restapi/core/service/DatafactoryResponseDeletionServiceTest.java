@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.epam.digital.data.platform.integration.ceph.exception.MisconfigurationException;
+import com.epam.digital.data.platform.integration.ceph.service.CephService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DatafactoryResponseDeletionServiceTest {
+
+  static final String BUCKET_NAME = "bucket";
+
+  @Mock
+  CephService cephService;
+
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  DatafactoryResponseDeletionService instance;
+
+  @BeforeEach
+  void setUp() {
+    instance = new DatafactoryResponseDeletionService(
+        cephService, BUCKET_NAME, 10, 2, 100, Duration.ofHours(1), meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    instance.shutdown();
+  }
+
+  @Test
+  void shouldDeleteQueuedKeysInOneCall() {
+    instance.delete("key1");
+    instance.delete("key2");
+
+    instance.deleteQueued();
+
+    verify(cephService).delete(BUCKET_NAME, Set.of("key1", "key2"));
+    assertThat(meterRegistry.get("datafactory.response.ceph.deletion.deleted").counter().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotCallCephWhenQueueIsEmpty() {
+    instance.deleteQueued();
+
+    verifyNoInteractions(cephService);
+  }
+
+  @Test
+  void shouldRetryFailedKeysOnNextRun() {
+    doThrow(new MisconfigurationException(""))
+        .when(cephService).delete(eq(BUCKET_NAME), any());
+
+    instance.delete("key");
+
+    instance.deleteQueued();
+    assertThat(meterRegistry.get("datafactory.response.ceph.deletion.queue.size").gauge().value())
+        .isEqualTo(1);
+
+    instance.deleteQueued();
+    assertThat(meterRegistry.get("datafactory.response.ceph.deletion.queue.size").gauge().value())
+        .isZero();
+    assertThat(meterRegistry.get("datafactory.response.ceph.deletion.dropped").counter().count())
+        .isEqualTo(1);
+
+    verify(cephService, times(2)).delete(BUCKET_NAME, Set.of("key"));
+  }
+
+  @Test
+  void shouldFlushQueueOnceItReachesBatchSize() throws InterruptedException {
+    var flushStarted = new CountDownLatch(1);
+    var releaseFlush = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      flushStarted.countDown();
+      releaseFlush.await(5, TimeUnit.SECONDS);
+      return null;
+    }).doNothing().when(cephService).delete(eq(BUCKET_NAME), any());
+
+    IntStream.range(0, 10).forEach(i -> instance.delete("first" + i));
+    assertThat(flushStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    IntStream.range(0, 15).forEach(i -> instance.delete("second" + i));
+    releaseFlush.countDown();
+
+    verify(cephService, timeout(5000).times(3)).delete(eq(BUCKET_NAME), any());
+    verify(cephService, after(200).times(3)).delete(eq(BUCKET_NAME), any());
+    assertThat(meterRegistry.get("datafactory.response.ceph.deletion.queue.size").gauge().value())
+        .isZero();
+  }
+}
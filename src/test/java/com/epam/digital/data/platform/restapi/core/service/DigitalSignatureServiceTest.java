@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,12 +44,18 @@ import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
 import com.epam.digital.data.platform.storage.form.service.FormDataStorageService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Optional;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 class DigitalSignatureServiceTest {
 
@@ -89,6 +96,8 @@ class DigitalSignatureServiceTest {
     digitalSignatureService = new DigitalSignatureService(lowcodeCephService,
         datafactoryCephService, cephService, DATAFACTORY_BUCKET,
         digitalSealRestClient, OBJECT_MAPPER);
+    digitalSignatureService.setVerificationCache(
+        new SignatureVerificationCache(Duration.ofMinutes(10), 100, new SimpleMeterRegistry()));
 
     securityContext = new SecurityContext(null, X_DIG_SIG, X_DIG_SIG_DERIVED);
 
@@ -110,6 +119,53 @@ class DigitalSignatureServiceTest {
     assertEquals(DATA, requestCaptor.getValue().getData());
   }
 
+  @Test
+  void shouldNotVerifySameSignatureAndDataTwice() {
+    when(lowcodeCephService.getFormData(X_DIG_SIG_DERIVED)).thenReturn(Optional.of(RESPONSE_FROM_CEPH));
+
+    digitalSignatureService.checkSignature(DATA, securityContext);
+    digitalSignatureService.checkSignature(DATA, securityContext);
+
+    verify(digitalSealRestClient).verify(any());
+  }
+
+  @Test
+  void shouldVerifyEveryTimeWhenCacheDisabled() {
+    digitalSignatureService.setVerificationCache(null);
+    when(lowcodeCephService.getFormData(X_DIG_SIG_DERIVED)).thenReturn(Optional.of(RESPONSE_FROM_CEPH));
+
+    digitalSignatureService.checkSignature(DATA, securityContext);
+    digitalSignatureService.checkSignature(DATA, securityContext);
+
+    verify(digitalSealRestClient, times(2)).verify(any());
+  }
+
+  @Test
+  void shouldVerifyAgainWhenDataChanged() {
+    when(lowcodeCephService.getFormData(X_DIG_SIG_DERIVED)).thenReturn(Optional.of(RESPONSE_FROM_CEPH));
+
+    digitalSignatureService.checkSignature(DATA, securityContext);
+    digitalSignatureService.checkSignature("other_data", securityContext);
+
+    verify(digitalSealRestClient, times(2)).verify(any());
+  }
+
+  @Test
+  void shouldReadLowcodeFormDataOncePerRequest() {
+    when(lowcodeCephService.getFormData(X_DIG_SIG_DERIVED)).thenReturn(Optional.of(RESPONSE_FROM_CEPH));
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    try {
+      digitalSignatureService.checkSignature(DATA, securityContext);
+      digitalSignatureService.copySignature(X_DIG_SIG_DERIVED);
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+
+    verify(lowcodeCephService).getFormData(X_DIG_SIG_DERIVED);
+    verify(datafactoryCephService).putFormData(X_DIG_SIG_DERIVED, RESPONSE_FROM_CEPH);
+  }
+
   @Test
   void shouldThrowExceptionWithCorrectMessage() {
     when(lowcodeCephService.getFormData(X_DIG_SIG_DERIVED))
@@ -217,4 +273,14 @@ class DigitalSignatureServiceTest {
     verify(datafactoryCephService).putFormData(X_DIG_SIG, RESPONSE_FROM_CEPH);
     assertEquals(CEPH_OBJECT, result);
   }
+
+  @Test
+  void shouldReturnChecksumOfCopiedSignature() {
+    when(lowcodeCephService.getFormData(X_DIG_SIG)).thenReturn(Optional.of(RESPONSE_FROM_CEPH));
+
+    String result = digitalSignatureService.copySignatureAndGetChecksum(X_DIG_SIG);
+
+    verify(datafactoryCephService).putFormData(X_DIG_SIG, RESPONSE_FROM_CEPH);
+    assertEquals(DigestUtils.sha256Hex(CEPH_OBJECT), result);
+  }
 }
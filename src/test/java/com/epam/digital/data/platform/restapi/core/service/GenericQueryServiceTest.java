@@ -26,6 +26,7 @@ import com.epam.digital.data.platform.model.core.kafka.Status;
 import com.epam.digital.data.platform.restapi.core.dto.MockEntity;
 import com.epam.digital.data.platform.restapi.core.service.impl.GenericQueryServiceTestImpl;
 import com.epam.digital.data.platform.restapi.core.queryhandler.impl.QueryHandlerTestImpl;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -70,6 +71,18 @@ class GenericQueryServiceTest {
     assertThat(reponse.getStatus()).isEqualTo(Status.SUCCESS);
   }
 
+  @Test
+  void shouldReturnAllFoundEntities() {
+    MockEntity mock = new MockEntity();
+    mock.setConsentId(ENTITY_ID);
+    when(mockQueryHandler.findByIds(any())).thenReturn(List.of(mock));
+
+    var response = instance.requestAll(new Request<>(List.of(ENTITY_ID), null, null));
+
+    assertThat(response.getPayload()).containsExactly(mock);
+    assertThat(response.getStatus()).isEqualTo(Status.SUCCESS);
+  }
+
   private Request<UUID> mockInput() {
     return new Request<>(ENTITY_ID, null, null);
   }
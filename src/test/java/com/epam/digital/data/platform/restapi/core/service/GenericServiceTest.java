@@ -16,40 +16,64 @@
 
 package com.epam.digital.data.platform.restapi.core.service;
 
+import static com.epam.digital.data.platform.restapi.core.service.GenericService.CEPH_REQUEST_KEY_KAFKA_HEADER;
+import static com.epam.digital.data.platform.restapi.core.service.GenericService.CEPH_REQUEST_KEY_PREFIX;
 import static com.epam.digital.data.platform.restapi.core.service.GenericService.DIGITAL_SEAL_KAFKA_HEADER;
+import static com.epam.digital.data.platform.restapi.core.service.GenericService.DIGITAL_SEAL_STORAGE_INLINE;
+import static com.epam.digital.data.platform.restapi.core.service.GenericService.DIGITAL_SEAL_STORAGE_KAFKA_HEADER;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import com.epam.digital.data.platform.integration.ceph.exception.MisconfigurationException;
+import com.epam.digital.data.platform.integration.ceph.model.CephObject;
+import com.epam.digital.data.platform.integration.ceph.model.CephObjectMetadata;
 import com.epam.digital.data.platform.integration.ceph.service.CephService;
 import com.epam.digital.data.platform.model.core.kafka.Request;
 import com.epam.digital.data.platform.model.core.kafka.Response;
 import com.epam.digital.data.platform.model.core.kafka.ResponseHeaders;
+import com.epam.digital.data.platform.model.core.kafka.SecurityContext;
 import com.epam.digital.data.platform.model.core.kafka.Status;
+import com.epam.digital.data.platform.restapi.core.config.KafkaCodecProperties;
+import com.epam.digital.data.platform.restapi.core.converter.kafka.KafkaPayloadCodec;
 import com.epam.digital.data.platform.restapi.core.dto.MockEntity;
 import com.epam.digital.data.platform.restapi.core.exception.KafkaCephResponseNotFoundException;
+import com.epam.digital.data.platform.restapi.core.exception.KafkaCephResponseTooLargeException;
+import com.epam.digital.data.platform.restapi.core.exception.KafkaRequestRejectedException;
 import com.epam.digital.data.platform.restapi.core.exception.NoKafkaResponseException;
+import com.epam.digital.data.platform.restapi.core.utils.Header;
 import com.epam.digital.data.platform.starter.kafka.config.properties.KafkaProperties;
+import com.epam.digital.data.platform.starter.security.dto.JwtClaimsDto;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
-import java.util.Collections;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -59,9 +83,19 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.requestreply.KafkaReplyTimeoutException;
 import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
 import org.springframework.kafka.requestreply.RequestReplyFuture;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(MockitoExtension.class)
 class GenericServiceTest {
@@ -75,11 +109,19 @@ class GenericServiceTest {
   @Mock
   ReplyingKafkaTemplate<String, Request<UUID>, String> replyingKafkaTemplate;
   @Mock
+  ReplyingKafkaTemplate<String, Request<UUID>, byte[]> bytesReplyingKafkaTemplate;
+  @Mock
   DigitalSignatureService digitalSignatureService;
   @Mock
   TraceProvider traceProvider;
   @Mock
   CephService cephService;
+  @Mock
+  CephService datafactoryCephService;
+  @Mock
+  DatafactoryResponseDeletionService deletionService;
+  @Mock
+  JwtInfoProvider jwtInfoProvider;
 
   ObjectMapper objectMapper = new ObjectMapper();
 
@@ -95,7 +137,8 @@ class GenericServiceTest {
     topics.setReply("replay-topic");
 
     instance = new GenericServiceTestImpl(replyingKafkaTemplate, topics,
-        digitalSignatureService, traceProvider, cephService, objectMapper, false, BUCKET_NAME);
+        digitalSignatureService, traceProvider, cephService, deletionService, objectMapper, false,
+        BUCKET_NAME);
   }
 
   @Nested
@@ -135,6 +178,89 @@ class GenericServiceTest {
       assertThat(exception.getCause()).isInstanceOf(ExecutionException.class);
     }
 
+    @Test
+    void shouldReadByteArrayReply() {
+      // given
+      String expected = "Some Name";
+
+      MockEntity entity = new MockEntity();
+      entity.setPersonFullName(expected);
+      Response<MockEntity> responseWrapper = new Response<>();
+      responseWrapper.setPayload(entity);
+      responseWrapper.setStatus(Status.SUCCESS);
+
+      RequestReplyFuture<String, Request<UUID>, byte[]> replyFuture = new RequestReplyFuture<>();
+      replyFuture.set(new ConsumerRecord<>("out", 0, 0, null,
+          toJsonStr(responseWrapper).getBytes(StandardCharsets.UTF_8)));
+      when(bytesReplyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class)))
+          .thenReturn(replyFuture);
+
+      instance = new GenericServiceTestImpl(bytesReplyingKafkaTemplate, topics,
+          digitalSignatureService, traceProvider, cephService, deletionService, objectMapper, false,
+          BUCKET_NAME);
+
+      // when
+      Response<MockEntity> response = instance.request(new Request<>(ID, null, null));
+
+      // then
+      assertThat(response.getPayload().getPersonFullName()).isEqualTo(expected);
+      assertThat(response.getStatus()).isEqualTo(Status.SUCCESS);
+    }
+
+    @Test
+    void shouldReadSmileReplyAndAcceptConfiguredReplyCodec() throws Exception {
+      // given
+      var codecProperties = new KafkaCodecProperties();
+      codecProperties.setReply(Map.of(topics.getReply(), KafkaPayloadCodec.SMILE));
+
+      MockEntity entity = new MockEntity();
+      entity.setPersonFullName("Some Name");
+      Response<MockEntity> responseWrapper = new Response<>();
+      responseWrapper.setPayload(entity);
+
+      RequestReplyFuture<String, Request<UUID>, byte[]> replyFuture = new RequestReplyFuture<>();
+      replyFuture.set(new ConsumerRecord<>("out", 0, 0, 0L, null, 0L, 0, 0, null,
+          KafkaPayloadCodec.SMILE.createObjectMapper(objectMapper)
+              .writeValueAsBytes(responseWrapper),
+          new RecordHeaders(List.of(new RecordHeader(KafkaPayloadCodec.CONTENT_TYPE_HEADER,
+              KafkaPayloadCodec.SMILE.getContentType().getBytes())))));
+      when(bytesReplyingKafkaTemplate.sendAndReceive(captor.capture())).thenReturn(replyFuture);
+
+      instance = new GenericServiceTestImpl(bytesReplyingKafkaTemplate, topics,
+          digitalSignatureService, traceProvider, cephService, deletionService, objectMapper, false,
+          BUCKET_NAME);
+      ReflectionTestUtils.setField(instance, "kafkaCodecProperties", codecProperties);
+
+      // when
+      Response<MockEntity> response = instance.request(new Request<>(ID, null, null));
+
+      // then
+      assertThat(response.getPayload().getPersonFullName()).isEqualTo("Some Name");
+      assertThat(captor.getValue().headers()
+          .lastHeader(KafkaPayloadCodec.REPLY_CONTENT_TYPE_HEADER).value())
+          .isEqualTo(KafkaPayloadCodec.SMILE.getContentType().getBytes());
+    }
+
+    @Test
+    void shouldRejectReplyWithUnknownContentType() {
+      // given
+      RequestReplyFuture<String, Request<UUID>, byte[]> replyFuture = new RequestReplyFuture<>();
+      replyFuture.set(new ConsumerRecord<>("out", 0, 0, 0L, null, 0L, 0, 0, null,
+          "{}".getBytes(StandardCharsets.UTF_8),
+          new RecordHeaders(List.of(new RecordHeader(KafkaPayloadCodec.CONTENT_TYPE_HEADER,
+              "text/plain".getBytes())))));
+      when(bytesReplyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class)))
+          .thenReturn(replyFuture);
+
+      instance = new GenericServiceTestImpl(bytesReplyingKafkaTemplate, topics,
+          digitalSignatureService, traceProvider, cephService, deletionService, objectMapper, false,
+          BUCKET_NAME);
+
+      // when
+      assertThrows(RuntimeJsonMappingException.class,
+          () -> instance.request(new Request<>(ID, null, null)));
+    }
+
     @Test
     void shouldThrowExceptionWhenInvalidJson() throws ExecutionException, InterruptedException {
       Request<UUID> request = new Request<>(ID, null, null);
@@ -150,6 +276,542 @@ class GenericServiceTest {
     }
   }
 
+  @Nested
+  class AsyncFlow {
+
+    @Test
+    void shouldCompleteWithResponse() throws Exception {
+      // given
+      String expected = "Some Name";
+
+      MockEntity entity = new MockEntity();
+      entity.setPersonFullName(expected);
+
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), entity);
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+
+      // when
+      Response<MockEntity> response =
+          instance.requestAsync(new Request<>(ID, null, null)).get(5, SECONDS);
+
+      // then
+      assertThat(response.getPayload().getPersonFullName()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldUseGivenReplyTimeout() throws Exception {
+      // given
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      var replyTimeout = Duration.ofMinutes(10);
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class), eq(replyTimeout)))
+          .thenReturn(replyFuture);
+
+      // when
+      Response<MockEntity> response =
+          instance.requestAsync(new Request<>(ID, null, null), replyTimeout).get(5, SECONDS);
+
+      // then
+      assertThat(response.getPayload()).isNotNull();
+    }
+
+    @Test
+    void shouldReadReplyWithCallerMdc() throws Exception {
+      // given
+      var replyExecutor = Executors.newSingleThreadExecutor();
+      ReflectionTestUtils.setField(instance, "replyExecutor", replyExecutor);
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseWithCephHeaderAsKafkaReplay();
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+      when(cephService.get(BUCKET_NAME, CEPH_RESPONSE_KEY))
+          .thenReturn(Optional.of(toCephObject("{\"status\":\"SUCCESS\"}")));
+      var replyTraceId = new AtomicReference<String>();
+      doAnswer(invocation -> {
+        replyTraceId.set(MDC.get("traceId"));
+        return null;
+      }).when(deletionService).delete(CEPH_RESPONSE_KEY);
+
+      // when
+      MDC.put("traceId", "trace");
+      CompletableFuture<Response<MockEntity>> response;
+      try {
+        response = instance.requestAsync(new Request<>(ID, null, null));
+      } finally {
+        MDC.clear();
+      }
+      response.get(5, SECONDS);
+      replyExecutor.shutdown();
+
+      // then
+      assertThat(replyTraceId.get()).isEqualTo("trace");
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenTimeout() {
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture = new RequestReplyFuture<>();
+      replyFuture.setException(new KafkaReplyTimeoutException("Reply timed out"));
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+
+      var future = instance.requestAsync(new Request<>(ID, null, null));
+
+      Exception exception = assertThrows(ExecutionException.class, () -> future.get(5, SECONDS));
+      assertThat(exception.getCause()).isInstanceOf(NoKafkaResponseException.class);
+      assertThat(exception.getCause().getCause()).isInstanceOf(KafkaReplyTimeoutException.class);
+    }
+  }
+
+  @Nested
+  class BulkFlow {
+
+    @Test
+    void shouldReturnResponsesInInputOrder() throws Exception {
+      // given
+      MockEntity first = new MockEntity();
+      first.setPersonFullName("First");
+      MockEntity second = new MockEntity();
+      second.setPersonFullName("Second");
+
+      RequestReplyFuture<String, Request<UUID>, String> pendingReply = new RequestReplyFuture<>();
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class)))
+          .thenReturn(pendingReply)
+          .thenReturn(wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), second));
+      var inputs = List.of(new Request<UUID>(ID, null, null), new Request<UUID>(ID, null, null));
+
+      // when
+      var result = CompletableFuture.supplyAsync(() -> instance.requestAll(inputs));
+      pendingReply.set(
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), first).get());
+
+      // then
+      var responses = result.get(5, SECONDS);
+      assertThat(responses).extracting(r -> r.getPayload().getPersonFullName())
+          .containsExactly("First", "Second");
+      verify(replyingKafkaTemplate, times(2)).sendAndReceive(any(ProducerRecord.class));
+    }
+
+    @Test
+    void shouldReturnFailedStatusForItemWithoutReply() {
+      // given
+      RequestReplyFuture<String, Request<UUID>, String> failedReply = new RequestReplyFuture<>();
+      failedReply.setException(new KafkaReplyTimeoutException("Reply timed out"));
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class)))
+          .thenReturn(failedReply)
+          .thenReturn(replyFuture);
+      var inputs = List.of(new Request<UUID>(ID, null, null), new Request<UUID>(ID, null, null));
+
+      // when
+      var responses = instance.requestAll(inputs);
+
+      // then
+      assertThat(responses.get(0).getStatus()).isEqualTo(Status.OPERATION_FAILED);
+      assertThat(responses.get(1).getPayload()).isNotNull();
+    }
+  }
+
+  @Nested
+  class ReplyPartition {
+
+    @Test
+    void shouldAddReplyPartitionHeaderWhenConfigured() {
+      // given
+      ReflectionTestUtils.setField(instance, "replyPartitions",
+          new KafkaReplyPartitions("3", null, null, ""));
+
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+
+      // when
+      instance.request(new Request<>(ID, null, null));
+
+      // then
+      verify(replyingKafkaTemplate).sendAndReceive(captor.capture());
+      assertThat(captor.getValue().headers().lastHeader(KafkaHeaders.REPLY_PARTITION).value())
+          .isEqualTo(new byte[] {0, 0, 0, 3});
+    }
+
+    @Test
+    void shouldNotAddReplyPartitionHeaderByDefault() {
+      // given
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+
+      // when
+      instance.request(new Request<>(ID, null, null));
+
+      // then
+      verify(replyingKafkaTemplate).sendAndReceive(captor.capture());
+      assertThat(captor.getValue().headers().lastHeader(KafkaHeaders.REPLY_PARTITION)).isNull();
+    }
+  }
+
+  @Nested
+  class ConcurrencyLimit {
+
+    KafkaConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+      limiter = new KafkaConcurrencyLimiter(
+          1, 1, 1, 0.5, Duration.ofMinutes(1), Duration.ofSeconds(1), new SimpleMeterRegistry());
+      ReflectionTestUtils.setField(instance, "concurrencyLimiter", limiter);
+    }
+
+    @Test
+    void shouldRejectRequestWhenLimitReached() {
+      // given
+      limiter.acquire(topics.getRequest());
+
+      // when-then
+      var input = new Request<UUID>(ID, null, null);
+      assertThrows(KafkaRequestRejectedException.class, () -> instance.request(input));
+      verify(replyingKafkaTemplate, never()).sendAndReceive(any(ProducerRecord.class));
+    }
+
+    @Test
+    void shouldRejectRequestBeforeSealingAndStoringPayload() {
+      // given
+      ReflectionTestUtils.setField(instance, "isSigningEnabled", true);
+      ReflectionTestUtils.setField(instance, "claimCheckThreshold", DataSize.ofBytes(1));
+      ReflectionTestUtils.setField(instance, "datafactoryCephService", datafactoryCephService);
+      limiter.acquire(topics.getRequest());
+
+      // when-then
+      var input = new Request<UUID>(ID, null, null);
+      assertThrows(KafkaRequestRejectedException.class, () -> instance.request(input));
+      assertThrows(KafkaRequestRejectedException.class, () -> instance.requestAsync(input));
+      verifyNoInteractions(digitalSignatureService, datafactoryCephService);
+    }
+
+    @Test
+    void shouldReturnPermitWithoutChangingLimitWhenRecordNotBuilt() {
+      // given
+      ReflectionTestUtils.setField(instance, "isSigningEnabled", true);
+      when(digitalSignatureService.sign(any())).thenThrow(new IllegalStateException());
+      var input = new Request<UUID>(ID, null, null);
+
+      // when
+      assertThrows(IllegalStateException.class, () -> instance.request(input));
+
+      // then
+      assertThat(limiter.getLimit(topics.getRequest())).isEqualTo(1);
+      assertThat(limiter.acquire(topics.getRequest())).isNotNull();
+    }
+
+    @Test
+    void shouldSendBulkRequestsInWavesWithinLimit() {
+      // given
+      RequestReplyFuture<String, Request<UUID>, String> first =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      RequestReplyFuture<String, Request<UUID>, String> second =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class)))
+          .thenReturn(first)
+          .thenReturn(second);
+      var inputs = List.of(new Request<UUID>(ID, null, null), new Request<UUID>(ID, null, null));
+
+      // when
+      var responses = instance.requestAll(inputs);
+
+      // then
+      verify(replyingKafkaTemplate, times(2)).sendAndReceive(any(ProducerRecord.class));
+      assertThat(responses).extracting(Response::getStatus)
+          .containsExactly(Status.SUCCESS, Status.SUCCESS);
+    }
+
+    @Test
+    void shouldReturnRejectedStatusForBulkRequestsOverLimit() {
+      // given
+      limiter.acquire(topics.getRequest());
+      var inputs = List.of(new Request<UUID>(ID, null, null), new Request<UUID>(ID, null, null));
+
+      // when
+      var responses = instance.requestAll(inputs);
+
+      // then
+      verify(replyingKafkaTemplate, never()).sendAndReceive(any(ProducerRecord.class));
+      assertThat(responses).extracting(Response::getStatus).containsExactly(
+          Status.THIRD_PARTY_SERVICE_UNAVAILABLE, Status.THIRD_PARTY_SERVICE_UNAVAILABLE);
+      assertThat(responses).extracting(Response::getStatus)
+          .doesNotContain(Status.OPERATION_FAILED);
+    }
+
+    @Test
+    void shouldReleasePermitWhenNoResponse() {
+      // given
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture = new RequestReplyFuture<>();
+      replyFuture.setException(new TimeoutException());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+      var input = new Request<UUID>(ID, null, null);
+
+      // when
+      assertThrows(NoKafkaResponseException.class, () -> instance.request(input));
+
+      // then
+      assertThat(limiter.acquire(topics.getRequest())).isNotNull();
+    }
+  }
+
+  @Nested
+  class ReplayCache {
+
+    @BeforeEach
+    void setUp() {
+      ReflectionTestUtils.setField(instance, "replayCache",
+          new KafkaReplayCache(Duration.ofMinutes(5), 10, new SimpleMeterRegistry()));
+      ReflectionTestUtils.setField(instance, "jwtInfoProvider", jwtInfoProvider);
+      Mockito.lenient().when(jwtInfoProvider.getUserClaims(any()))
+          .thenAnswer(invocation -> claimsOf(invocation.<Request<?>>getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+      RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldReplayResponseForRetriedRequest() {
+      // given
+      withIdempotencyKey("key");
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+
+      // when
+      var response = instance.request(new Request<>(ID, null, securityContext("user")));
+      var replayed = instance.request(new Request<>(ID, null, securityContext("user")));
+
+      // then
+      verify(replyingKafkaTemplate).sendAndReceive(any(ProducerRecord.class));
+      assertThat(replayed).isSameAs(response);
+    }
+
+    @Test
+    void shouldNotMergeDifferentPayloadsWithSameIdempotencyKey() {
+      // given
+      withIdempotencyKey("key");
+      mockTwoReplies();
+
+      // when
+      var first = instance.request(new Request<>(ID, null, securityContext("user")));
+      var second =
+          instance.request(new Request<>(UUID.randomUUID(), null, securityContext("user")));
+
+      // then
+      verify(replyingKafkaTemplate, times(2)).sendAndReceive(any(ProducerRecord.class));
+      assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void shouldNotReplayResponseOfAnotherUser() {
+      // given
+      withIdempotencyKey("key");
+      mockTwoReplies();
+
+      // when
+      var first = instance.request(new Request<>(ID, null, securityContext("user")));
+      var second = instance.request(new Request<>(ID, null, securityContext("another-user")));
+
+      // then
+      verify(replyingKafkaTemplate, times(2)).sendAndReceive(any(ProducerRecord.class));
+      assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void shouldNotReplayRequestWithoutIdempotencyKey() {
+      // given
+      when(traceProvider.getRequestId()).thenReturn("trace-id");
+      mockTwoReplies();
+
+      // when
+      instance.request(new Request<>(ID, null, securityContext("user")));
+      instance.request(new Request<>(ID, null, securityContext("user")));
+
+      // then
+      verify(replyingKafkaTemplate, times(2)).sendAndReceive(any(ProducerRecord.class));
+    }
+
+    @Test
+    void shouldResendRequestAfterNoResponse() {
+      // given
+      withIdempotencyKey("key");
+      RequestReplyFuture<String, Request<UUID>, String> failedFuture = new RequestReplyFuture<>();
+      failedFuture.setException(new KafkaReplyTimeoutException("Reply timed out"));
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class)))
+          .thenReturn(failedFuture)
+          .thenReturn(replyFuture);
+      var input = new Request<UUID>(ID, null, securityContext("user"));
+
+      // when
+      assertThrows(NoKafkaResponseException.class, () -> instance.request(input));
+      var response = instance.request(input);
+
+      // then
+      verify(replyingKafkaTemplate, times(2)).sendAndReceive(any(ProducerRecord.class));
+      assertThat(response.getPayload()).isNotNull();
+    }
+
+    private void mockTwoReplies() {
+      RequestReplyFuture<String, Request<UUID>, String> first =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      RequestReplyFuture<String, Request<UUID>, String> second =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class)))
+          .thenReturn(first)
+          .thenReturn(second);
+    }
+
+    private void withIdempotencyKey(String idempotencyKey) {
+      var request = new MockHttpServletRequest();
+      request.addHeader(Header.IDEMPOTENCY_KEY.getHeaderName(), idempotencyKey);
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private SecurityContext securityContext(String subject) {
+      var securityContext = new SecurityContext();
+      securityContext.setAccessToken(subject + "-token");
+      return securityContext;
+    }
+
+    private JwtClaimsDto claimsOf(Request<?> request) {
+      var claims = new JwtClaimsDto();
+      claims.setSubject(request.getSecurityContext().getAccessToken().replace("-token", ""));
+      return claims;
+    }
+  }
+
+  @Nested
+  class ClaimCheck {
+
+    @BeforeEach
+    void setUp() {
+      ReflectionTestUtils.setField(instance, "datafactoryCephService", datafactoryCephService);
+      ReflectionTestUtils.setField(instance, "datafactoryBucket", "datafactory-bucket");
+    }
+
+    @Test
+    void shouldStoreLargePayloadInCephAndSendKeyInHeader() throws JsonProcessingException {
+      // given
+      ReflectionTestUtils.setField(instance, "claimCheckThreshold", DataSize.ofBytes(10));
+
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+
+      // when
+      instance.request(new Request<>(ID, null, null));
+
+      // then
+      var keyCaptor = ArgumentCaptor.forClass(String.class);
+      verify(datafactoryCephService).put(
+          eq("datafactory-bucket"), keyCaptor.capture(), eq(objectMapper.writeValueAsString(ID)));
+      verify(replyingKafkaTemplate).sendAndReceive(captor.capture());
+      assertThat(keyCaptor.getValue()).startsWith(CEPH_REQUEST_KEY_PREFIX);
+      assertThat(captor.getValue().value().getPayload()).isNull();
+      assertThat(new String(captor.getValue().headers()
+          .lastHeader(CEPH_REQUEST_KEY_KAFKA_HEADER).value()))
+          .isEqualTo(keyCaptor.getValue());
+    }
+
+    @Test
+    void shouldSendSmallPayloadInline() {
+      // given
+      ReflectionTestUtils.setField(instance, "claimCheckThreshold", DataSize.ofKilobytes(1));
+
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+
+      // when
+      instance.request(new Request<>(ID, null, null));
+
+      // then
+      verifyNoInteractions(datafactoryCephService);
+      verify(replyingKafkaTemplate).sendAndReceive(captor.capture());
+      assertThat(captor.getValue().value().getPayload()).isEqualTo(ID);
+      assertThat(captor.getValue().headers().lastHeader(CEPH_REQUEST_KEY_KAFKA_HEADER))
+          .isNull();
+    }
+
+    @Test
+    void shouldMeasureSmallPayloadWithoutSerializingItToMemory() throws JsonProcessingException {
+      // given
+      var objectMapperSpy = Mockito.spy(objectMapper);
+      ReflectionTestUtils.setField(instance, "objectMapper", objectMapperSpy);
+      ReflectionTestUtils.setField(instance, "claimCheckThreshold", DataSize.ofKilobytes(1));
+
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+
+      // when
+      instance.request(new Request<>(ID, null, null));
+
+      // then
+      verify(objectMapperSpy, never()).writeValueAsString(ID);
+      verify(objectMapperSpy, never()).writeValueAsBytes(ID);
+    }
+
+    @Test
+    void shouldDeleteStoredPayloadWhenSendFails() {
+      // given
+      ReflectionTestUtils.setField(instance, "claimCheckThreshold", DataSize.ofBytes(10));
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class)))
+          .thenThrow(new KafkaException("broker is not available"));
+
+      // when
+      assertThrows(RuntimeException.class, () -> instance.request(new Request<>(ID, null, null)));
+
+      // then
+      var keyCaptor = ArgumentCaptor.forClass(String.class);
+      verify(datafactoryCephService).put(eq("datafactory-bucket"), keyCaptor.capture(), any());
+      verify(datafactoryCephService).delete("datafactory-bucket", Set.of(keyCaptor.getValue()));
+    }
+
+    @Test
+    void shouldDeleteStoredPayloadWhenRecordIsNotDelivered() {
+      // given
+      ReflectionTestUtils.setField(instance, "claimCheckThreshold", DataSize.ofBytes(10));
+
+      var sendFuture = new SettableListenableFuture<SendResult<String, Request<UUID>>>();
+      sendFuture.setException(new KafkaException("record is too large"));
+      var replyFuture = Mockito.spy(new RequestReplyFuture<String, Request<UUID>, String>());
+      replyFuture.setException(new KafkaException("record is too large"));
+      when(replyFuture.getSendFuture()).thenReturn(sendFuture);
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+
+      // when
+      assertThrows(RuntimeException.class, () -> instance.request(new Request<>(ID, null, null)));
+
+      // then
+      var keyCaptor = ArgumentCaptor.forClass(String.class);
+      verify(datafactoryCephService).put(eq("datafactory-bucket"), keyCaptor.capture(), any());
+      verify(datafactoryCephService).delete("datafactory-bucket", Set.of(keyCaptor.getValue()));
+    }
+
+    @Test
+    void shouldKeepStoredPayloadWhenReplyIsMissing() {
+      // given
+      ReflectionTestUtils.setField(instance, "claimCheckThreshold", DataSize.ofBytes(10));
+
+      var replyFuture = new RequestReplyFuture<String, Request<UUID>, String>();
+      replyFuture.setException(new KafkaReplyTimeoutException("Reply timed out"));
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+
+      // when
+      assertThrows(RuntimeException.class, () -> instance.request(new Request<>(ID, null, null)));
+
+      // then
+      verify(datafactoryCephService, never()).delete(any(), any());
+    }
+  }
+
   @Nested
   class LargeResponse {
 
@@ -167,52 +829,63 @@ class GenericServiceTest {
       when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
       String cephContent =
           "{\"payload\":{\"personFullName\":\"" + expected + "\"}, \"status\":\"SUCCESS\"}";
-      when(cephService.getAsString(BUCKET_NAME, CEPH_RESPONSE_KEY))
-          .thenReturn(Optional.of(cephContent));
+      when(cephService.get(BUCKET_NAME, CEPH_RESPONSE_KEY))
+          .thenReturn(Optional.of(toCephObject(cephContent)));
 
       // when
       Response<MockEntity> response = instance.request(new Request<>(ID, null, null));
 
       // then
-      verify(cephService).getAsString(BUCKET_NAME, CEPH_RESPONSE_KEY);
+      verify(cephService).get(BUCKET_NAME, CEPH_RESPONSE_KEY);
       assertThat(response.getPayload().getPersonFullName()).isEqualTo(expected);
       assertThat(response.getStatus()).isEqualTo(Status.SUCCESS);
 
-      verify(cephService).delete(BUCKET_NAME, Collections.singleton(CEPH_RESPONSE_KEY));
+      verify(deletionService).delete(CEPH_RESPONSE_KEY);
     }
 
     @Test
-    void expectNoExceptionThrownIfCannotDeleteFromCeph() throws JsonProcessingException {
-      // given
+    void expectExceptionThrownIfNotFoundInCephCeph() throws JsonProcessingException {
       RequestReplyFuture<String, Request<UUID>, String> replyFuture =
           wrapResponseWithCephHeaderAsKafkaReplay();
       when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
 
-      String cephContent = "{\"status\":\"SUCCESS\"}";
-      when(cephService.getAsString(BUCKET_NAME, CEPH_RESPONSE_KEY))
-          .thenReturn(Optional.of(cephContent));
+      when(cephService.get(BUCKET_NAME, CEPH_RESPONSE_KEY)).thenReturn(Optional.empty());
 
-      doThrow(new MisconfigurationException(""))
-          .when(cephService)
-          .delete(BUCKET_NAME, Collections.singleton(CEPH_RESPONSE_KEY));
+      assertThrows(KafkaCephResponseNotFoundException.class,
+          () -> instance.request(new Request<>(ID, null, null)));
+    }
 
-      // when
-      assertDoesNotThrow(() -> instance.request(new Request<>(ID, null, null)));
+    @Test
+    void expectExceptionThrownIfCephResponseExceedsLimit() {
+      ReflectionTestUtils.setField(instance, "maxCephResponseSize", DataSize.ofBytes(10));
 
-      // then
-      verify(cephService).delete(BUCKET_NAME, Collections.singleton(CEPH_RESPONSE_KEY));
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseWithCephHeaderAsKafkaReplay();
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+
+      String cephContent = "{\"status\":\"SUCCESS\"}";
+      when(cephService.get(BUCKET_NAME, CEPH_RESPONSE_KEY))
+          .thenReturn(Optional.of(toCephObject(cephContent)));
+
+      assertThrows(KafkaCephResponseTooLargeException.class,
+          () -> instance.request(new Request<>(ID, null, null)));
     }
 
     @Test
-    void expectExceptionThrownIfNotFoundInCephCeph() throws JsonProcessingException {
+    void expectExceptionThrownIfCephResponseWithoutLengthExceedsLimit() {
+      ReflectionTestUtils.setField(instance, "maxCephResponseSize", DataSize.ofBytes(10));
+
       RequestReplyFuture<String, Request<UUID>, String> replyFuture =
           wrapResponseWithCephHeaderAsKafkaReplay();
       when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
 
-      when(cephService.getAsString(BUCKET_NAME, CEPH_RESPONSE_KEY)).thenReturn(Optional.empty());
+      var cephObject = toCephObject("{\"status\":\"SUCCESS\"}");
+      when(cephObject.getMetadata()).thenReturn(Mockito.mock(CephObjectMetadata.class));
+      when(cephService.get(BUCKET_NAME, CEPH_RESPONSE_KEY)).thenReturn(Optional.of(cephObject));
 
-      assertThrows(KafkaCephResponseNotFoundException.class,
+      assertThrows(KafkaCephResponseTooLargeException.class,
           () -> instance.request(new Request<>(ID, null, null)));
+      verifyNoInteractions(deletionService);
     }
   }
 
@@ -223,7 +896,8 @@ class GenericServiceTest {
     void shouldSignPayload() {
       // given
       instance = new GenericServiceTestImpl(replyingKafkaTemplate, topics,
-          digitalSignatureService, traceProvider, cephService, objectMapper, true, BUCKET_NAME);
+          digitalSignatureService, traceProvider, cephService, deletionService, objectMapper, true,
+          BUCKET_NAME);
       String expected = "signature";
 
       RequestReplyFuture<String, Request<UUID>, String> replyFuture =
@@ -244,7 +918,8 @@ class GenericServiceTest {
     void shouldAddSignatureHeader() {
       // given
       instance = new GenericServiceTestImpl(replyingKafkaTemplate, topics,
-          digitalSignatureService, traceProvider, cephService, objectMapper, true, BUCKET_NAME);
+          digitalSignatureService, traceProvider, cephService, deletionService, objectMapper, true,
+          BUCKET_NAME);
 
       String expected = "signature";
 
@@ -262,6 +937,60 @@ class GenericServiceTest {
       assertThat(captor.getValue().headers().lastHeader(DIGITAL_SEAL_KAFKA_HEADER).value())
           .isEqualTo(expected.getBytes());
     }
+
+    @Test
+    void shouldInlineSmallSealIntoHeader() {
+      // given
+      instance = new GenericServiceTestImpl(replyingKafkaTemplate, topics,
+          digitalSignatureService, traceProvider, cephService, deletionService, objectMapper, true,
+          BUCKET_NAME);
+      ReflectionTestUtils.setField(instance, "inlineDigitalSealMaxSize", DataSize.ofKilobytes(1));
+
+      String seal = "seal";
+
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+      when(digitalSignatureService.sign(any())).thenReturn(seal);
+
+      // when
+      instance.request(new Request<>(ID, null, null));
+
+      // then
+      verify(digitalSignatureService, never()).store(any());
+      verify(replyingKafkaTemplate).sendAndReceive(captor.capture());
+      var headers = captor.getValue().headers();
+      assertThat(headers.lastHeader(DIGITAL_SEAL_KAFKA_HEADER).value()).isEqualTo(seal.getBytes());
+      assertThat(headers.lastHeader(DIGITAL_SEAL_STORAGE_KAFKA_HEADER).value())
+          .isEqualTo(DIGITAL_SEAL_STORAGE_INLINE.getBytes());
+    }
+
+    @Test
+    void shouldStoreSealExceedingInlineSizeInCeph() {
+      // given
+      instance = new GenericServiceTestImpl(replyingKafkaTemplate, topics,
+          digitalSignatureService, traceProvider, cephService, deletionService, objectMapper, true,
+          BUCKET_NAME);
+      ReflectionTestUtils.setField(instance, "inlineDigitalSealMaxSize", DataSize.ofBytes(2));
+
+      String cephKey = "signature";
+
+      RequestReplyFuture<String, Request<UUID>, String> replyFuture =
+          wrapResponseObjectAsKafkaReplay(new Request<>(ID, null, null), new MockEntity());
+      when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class))).thenReturn(replyFuture);
+      when(digitalSignatureService.sign(any())).thenReturn("seal");
+      when(digitalSignatureService.store("seal")).thenReturn(cephKey);
+
+      // when
+      instance.request(new Request<>(ID, null, null));
+
+      // then
+      verify(replyingKafkaTemplate).sendAndReceive(captor.capture());
+      var headers = captor.getValue().headers();
+      assertThat(headers.lastHeader(DIGITAL_SEAL_KAFKA_HEADER).value())
+          .isEqualTo(cephKey.getBytes());
+      assertThat(headers.lastHeader(DIGITAL_SEAL_STORAGE_KAFKA_HEADER)).isNull();
+    }
   }
 
   private <I, O> RequestReplyFuture<String, I, String> wrapResponseObjectAsKafkaReplay(I input,
@@ -291,6 +1020,18 @@ class GenericServiceTest {
     }
   }
 
+  private CephObject toCephObject(String content) {
+    var bytes = content.getBytes(StandardCharsets.UTF_8);
+
+    var metadata = Mockito.mock(CephObjectMetadata.class);
+    Mockito.lenient().when(metadata.getContentLength()).thenReturn((long) bytes.length);
+
+    var cephObject = Mockito.mock(CephObject.class);
+    when(cephObject.getContent()).thenReturn(new ByteArrayInputStream(bytes));
+    Mockito.lenient().when(cephObject.getMetadata()).thenReturn(metadata);
+    return cephObject;
+  }
+
   private <I, O> RequestReplyFuture<String, I, String> wrapResponseWithCephHeaderAsKafkaReplay() {
     RequestReplyFuture<String, I, String> replyFuture = new RequestReplyFuture<>();
     Response<O> responseWrapper = new Response<>();
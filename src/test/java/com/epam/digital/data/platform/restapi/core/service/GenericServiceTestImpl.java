@@ -31,11 +31,12 @@ import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
 public class GenericServiceTestImpl extends GenericService<UUID, MockEntity> {
 
   public GenericServiceTestImpl(
-      ReplyingKafkaTemplate<String, Request<UUID>, String> replyingKafkaTemplate,
+      ReplyingKafkaTemplate<String, Request<UUID>, ?> replyingKafkaTemplate,
       KafkaProperties.RequestReplyHandler topics,
       DigitalSignatureService digitalSignatureService,
       TraceProvider traceProvider,
       CephService datafactoryResponseCephService,
+      DatafactoryResponseDeletionService datafactoryResponseDeletionService,
       ObjectMapper objectMapper,
       boolean isEnabled,
       String datafactoryResponseBucket) {
@@ -45,6 +46,7 @@ public class GenericServiceTestImpl extends GenericService<UUID, MockEntity> {
         digitalSignatureService,
         traceProvider,
         datafactoryResponseCephService,
+        datafactoryResponseDeletionService,
         objectMapper,
         isEnabled, datafactoryResponseBucket);
   }
@@ -19,6 +19,7 @@ package com.epam.digital.data.platform.restapi.core.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,11 +39,15 @@ import com.nimbusds.jose.jwk.ECKey;
 import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(SpringExtension.class)
 class JwtInfoProviderTest {
@@ -60,6 +65,11 @@ class JwtInfoProviderTest {
     jwtInfoProvider = new JwtInfoProvider(tokenParser);
   }
 
+  @AfterEach
+  void afterEach() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
   @Test
   void expectJwtIsParsed() throws JOSEException {
     JWTClaimsSet claims = new JWTClaimsSet.Builder()
@@ -83,6 +93,29 @@ class JwtInfoProviderTest {
     assertThrows(JwtValidationException.class, () -> jwtInfoProvider.getUserClaims(new Request<>()));
   }
 
+  @Test
+  void expectClaimsAreParsedOncePerRequest() {
+    var claims = new JwtClaimsDto();
+    when(tokenParser.parseClaims("token")).thenReturn(claims);
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    assertThat(jwtInfoProvider.parseClaims("token")).isSameAs(claims);
+    assertThat(jwtInfoProvider.parseClaims("token")).isSameAs(claims);
+
+    verify(tokenParser, times(1)).parseClaims("token");
+  }
+
+  @Test
+  void expectClaimsAreParsedEveryTimeOutsideOfRequest() {
+    when(tokenParser.parseClaims("token")).thenReturn(new JwtClaimsDto());
+
+    jwtInfoProvider.parseClaims("token");
+    jwtInfoProvider.parseClaims("token");
+
+    verify(tokenParser, times(2)).parseClaims("token");
+  }
+
   private Request<Void> mockRequest(JWTClaimsSet jwtClaims) throws JOSEException {
     var request = new Request<Void>();
     var securityContext = new SecurityContext();
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.restapi.core.exception.KafkaRequestRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KafkaConcurrencyLimiterTest {
+
+  static final String TOPIC = "request-topic";
+
+  SimpleMeterRegistry meterRegistry;
+  KafkaConcurrencyLimiter limiter;
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    limiter = new KafkaConcurrencyLimiter(
+        2, 1, 4, 0.5, Duration.ofMinutes(1), Duration.ofSeconds(1), meterRegistry);
+  }
+
+  @Test
+  void shouldRejectRequestsAboveLimit() {
+    limiter.acquire(TOPIC);
+    limiter.acquire(TOPIC);
+
+    assertThatThrownBy(() -> limiter.acquire(TOPIC))
+        .isInstanceOf(KafkaRequestRejectedException.class)
+        .extracting("retryAfter")
+        .isEqualTo(Duration.ofSeconds(1));
+    assertThat(meterRegistry.get("kafka.request.concurrency.rejected").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldAcquireOnlyFreeSlotsForBatch() {
+    limiter.acquire(TOPIC);
+
+    var permits = limiter.tryAcquire(TOPIC, 3);
+
+    assertThat(permits).hasSize(1);
+    assertThat(limiter.tryAcquire(TOPIC, 3)).isEmpty();
+    assertThat(meterRegistry.get("kafka.request.concurrency.rejected").counter().count())
+        .isEqualTo(1);
+
+    permits.get(0).onSuccess();
+    assertThat(limiter.tryAcquire(TOPIC, 3)).hasSize(1);
+  }
+
+  @Test
+  void shouldFreeSlotWhenPermitReleased() {
+    limiter.acquire(TOPIC);
+    var permit = limiter.acquire(TOPIC);
+
+    permit.onSuccess();
+    permit.onSuccess();
+
+    limiter.acquire(TOPIC);
+    assertThatThrownBy(() -> limiter.acquire(TOPIC))
+        .isInstanceOf(KafkaRequestRejectedException.class);
+  }
+
+  @Test
+  void shouldIncreaseLimitAdditivelyOnFastReplies() {
+    for (int i = 0; i < 4; i++) {
+      limiter.acquire(TOPIC).onSuccess();
+    }
+
+    assertThat(limiter.getLimit(TOPIC)).isEqualTo(3);
+  }
+
+  @Test
+  void shouldDecreaseLimitMultiplicativelyOnDroppedReplies() {
+    limiter.acquire(TOPIC).onDropped();
+    assertThat(limiter.getLimit(TOPIC)).isEqualTo(1);
+
+    limiter.acquire(TOPIC).onDropped();
+    assertThat(limiter.getLimit(TOPIC)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepLimitWhenPermitIgnored() {
+    limiter.acquire(TOPIC).onIgnored();
+
+    assertThat(limiter.getLimit(TOPIC)).isEqualTo(2);
+    assertThat(meterRegistry.get("kafka.request.concurrency.in-flight").tag("topic", TOPIC)
+        .gauge().value()).isZero();
+  }
+
+  @Test
+  void shouldKeepSeparateLimitsPerTopic() {
+    limiter.acquire(TOPIC);
+    limiter.acquire(TOPIC);
+
+    limiter.acquire("other-topic");
+
+    assertThat(meterRegistry.get("kafka.request.concurrency.in-flight").tag("topic", TOPIC)
+        .gauge().value()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import static com.epam.digital.data.platform.restapi.core.service.KafkaOperationService.CEPH_OPERATION_KEY_PREFIX;
+import static com.epam.digital.data.platform.restapi.core.service.KafkaOperationService.NO_RESPONSE_ERROR;
+import static com.epam.digital.data.platform.restapi.core.service.KafkaOperationService.REQUEST_FAILED_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.integration.ceph.model.CephObject;
+import com.epam.digital.data.platform.integration.ceph.service.CephService;
+import com.epam.digital.data.platform.model.core.kafka.Request;
+import com.epam.digital.data.platform.model.core.kafka.Response;
+import com.epam.digital.data.platform.model.core.kafka.SecurityContext;
+import com.epam.digital.data.platform.model.core.kafka.Status;
+import com.epam.digital.data.platform.restapi.core.dto.MockEntity;
+import com.epam.digital.data.platform.restapi.core.exception.KafkaRequestRejectedException;
+import com.epam.digital.data.platform.restapi.core.exception.NoKafkaResponseException;
+import com.epam.digital.data.platform.restapi.core.model.KafkaOperationStatus.State;
+import com.epam.digital.data.platform.restapi.core.util.MutableClock;
+import com.epam.digital.data.platform.starter.security.dto.JwtClaimsDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaOperationServiceTest {
+
+  static final String BUCKET = "bucket";
+  static final Duration REPLY_TIMEOUT = Duration.ofMinutes(10);
+  static final Duration TTL = Duration.ofMinutes(5);
+  static final SecurityContext OWNER = securityContext("owner-token");
+  static final SecurityContext OTHER_USER = securityContext("other-token");
+  static final Request<UUID> REQUEST = new Request<>(UUID.randomUUID(), null, OWNER);
+
+  @Mock
+  KafkaService<UUID, MockEntity> kafkaService;
+  @Mock
+  CephService cephService;
+  @Mock
+  JwtInfoProvider jwtInfoProvider;
+
+  Map<String, String> storage = new ConcurrentHashMap<>();
+  MutableClock clock;
+  KafkaOperationService instance;
+
+  @BeforeEach
+  void init() {
+    clock = new MutableClock(Instant.parse("2023-01-01T00:00:00Z"));
+    instance = new KafkaOperationService(cephService, BUCKET,
+        new ObjectMapper().findAndRegisterModules(), jwtInfoProvider, REPLY_TIMEOUT, TTL, 2, clock);
+
+    mockSubject(OWNER, "owner");
+    mockSubject(OTHER_USER, "other");
+    lenient().doAnswer(invocation ->
+            storage.put(invocation.getArgument(1), invocation.getArgument(2)))
+        .when(cephService).put(eq(BUCKET), anyString(), anyString());
+    lenient().when(cephService.get(eq(BUCKET), anyString()))
+        .thenAnswer(invocation ->
+            Optional.ofNullable(storage.get(invocation.<String>getArgument(1)))
+                .map(KafkaOperationServiceTest::toCephObject));
+  }
+
+  @Test
+  void shouldKeepOperationPendingUntilReplyReceived() {
+    var future = new CompletableFuture<Response<MockEntity>>();
+    when(kafkaService.requestAsync(REQUEST, REPLY_TIMEOUT)).thenReturn(future);
+
+    var operationId = instance.submit(kafkaService, REQUEST);
+    assertThat(instance.get(operationId, OWNER)).get()
+        .extracting(KafkaOperationService.Operation::getState).isEqualTo(State.PENDING);
+
+    var response = new Response<MockEntity>();
+    response.setStatus(Status.SUCCESS);
+    var entity = new MockEntity();
+    entity.setPersonFullName("Some Name");
+    response.setPayload(entity);
+    future.complete(response);
+
+    var operation = instance.get(operationId, OWNER).get();
+    assertThat(operation.getState()).isEqualTo(State.COMPLETED);
+    assertThat(operation.getResponse().getStatus()).isEqualTo(Status.SUCCESS);
+    assertThat(operation.getResponse().getPayload())
+        .extracting("personFullName").isEqualTo("Some Name");
+  }
+
+  @Test
+  void shouldServeOperationFromStoreSharedBetweenReplicas() {
+    when(kafkaService.requestAsync(REQUEST, REPLY_TIMEOUT))
+        .thenReturn(CompletableFuture.completedFuture(new Response<>()));
+    var operationId = instance.submit(kafkaService, REQUEST);
+
+    var otherReplica = new KafkaOperationService(cephService, BUCKET,
+        new ObjectMapper().findAndRegisterModules(), jwtInfoProvider, REPLY_TIMEOUT, TTL, 2, clock);
+
+    assertThat(otherReplica.get(operationId, OWNER)).get()
+        .extracting(KafkaOperationService.Operation::getState).isEqualTo(State.COMPLETED);
+  }
+
+  @Test
+  void shouldNotServeOperationToAnotherUser() {
+    when(kafkaService.requestAsync(REQUEST, REPLY_TIMEOUT))
+        .thenReturn(CompletableFuture.completedFuture(new Response<>()));
+    var operationId = instance.submit(kafkaService, REQUEST);
+
+    assertThat(instance.get(operationId, OTHER_USER)).isEmpty();
+  }
+
+  @Test
+  void shouldStoreFailureOfOperation() {
+    var error = new NoKafkaResponseException("No response for request: " + REQUEST, null);
+    when(kafkaService.requestAsync(REQUEST, REPLY_TIMEOUT))
+        .thenReturn(CompletableFuture.failedFuture(error));
+
+    var operationId = instance.submit(kafkaService, REQUEST);
+
+    var operation = instance.get(operationId, OWNER).get();
+    assertThat(operation.getState()).isEqualTo(State.FAILED);
+    assertThat(operation.getError()).isEqualTo(NO_RESPONSE_ERROR);
+    assertThat(storage.get(CEPH_OPERATION_KEY_PREFIX + operationId))
+        .doesNotContain(REQUEST.toString());
+  }
+
+  @Test
+  void shouldStoreFixedDescriptionOfUnexpectedFailure() {
+    when(kafkaService.requestAsync(REQUEST, REPLY_TIMEOUT))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("payload")));
+
+    var operationId = instance.submit(kafkaService, REQUEST);
+
+    var operation = instance.get(operationId, OWNER).get();
+    assertThat(operation.getState()).isEqualTo(State.FAILED);
+    assertThat(operation.getError()).isEqualTo(REQUEST_FAILED_ERROR);
+  }
+
+  @Test
+  void shouldExpireCompletedOperationAfterTtl() {
+    when(kafkaService.requestAsync(REQUEST, REPLY_TIMEOUT))
+        .thenReturn(CompletableFuture.completedFuture(new Response<>()));
+    var operationId = instance.submit(kafkaService, REQUEST);
+
+    clock.advance(TTL.plusSeconds(1));
+
+    assertThat(instance.get(operationId, OWNER)).isEmpty();
+  }
+
+  @Test
+  void shouldDeleteExpiredOperationWhenPolled() {
+    when(kafkaService.requestAsync(REQUEST, REPLY_TIMEOUT))
+        .thenReturn(CompletableFuture.completedFuture(new Response<>()));
+    var operationId = instance.submit(kafkaService, REQUEST);
+    var otherReplica = new KafkaOperationService(cephService, BUCKET,
+        new ObjectMapper().findAndRegisterModules(), jwtInfoProvider, REPLY_TIMEOUT, TTL, 2, clock);
+
+    clock.advance(TTL.plusSeconds(1));
+
+    assertThat(otherReplica.get(operationId, OWNER)).isEmpty();
+    verify(cephService).delete(BUCKET, Set.of(CEPH_OPERATION_KEY_PREFIX + operationId));
+  }
+
+  @Test
+  void shouldDeleteExpiredOperationsOnNextSubmission() {
+    when(kafkaService.requestAsync(REQUEST, REPLY_TIMEOUT))
+        .thenReturn(CompletableFuture.completedFuture(new Response<>()));
+    var operationId = instance.submit(kafkaService, REQUEST);
+
+    clock.advance(TTL.plusSeconds(1));
+    instance.submit(kafkaService, REQUEST);
+
+    verify(cephService).delete(BUCKET, Set.of(CEPH_OPERATION_KEY_PREFIX + operationId));
+  }
+
+  @Test
+  void shouldRejectSubmissionWhenTooManyOperationsPending() {
+    when(kafkaService.requestAsync(eq(REQUEST), any()))
+        .thenReturn(new CompletableFuture<>());
+
+    var first = instance.submit(kafkaService, REQUEST);
+    var second = instance.submit(kafkaService, REQUEST);
+
+    assertThrows(KafkaRequestRejectedException.class,
+        () -> instance.submit(kafkaService, REQUEST));
+    verify(kafkaService, times(2)).requestAsync(eq(REQUEST), any());
+    assertThat(instance.get(first, OWNER)).isPresent();
+    assertThat(instance.get(second, OWNER)).isPresent();
+  }
+
+  @Test
+  void shouldAcceptSubmissionOncePendingOperationCompletes() {
+    var future = new CompletableFuture<Response<MockEntity>>();
+    when(kafkaService.requestAsync(eq(REQUEST), any()))
+        .thenReturn(future, new CompletableFuture<>(), new CompletableFuture<>());
+    instance.submit(kafkaService, REQUEST);
+    instance.submit(kafkaService, REQUEST);
+
+    future.complete(new Response<>());
+
+    assertThat(instance.submit(kafkaService, REQUEST)).isNotNull();
+  }
+
+  private void mockSubject(SecurityContext securityContext, String subject) {
+    var claims = new JwtClaimsDto();
+    claims.setSubject(subject);
+    lenient().when(jwtInfoProvider.getUserClaims(argThat((Request<?> request) ->
+            request != null && request.getSecurityContext() == securityContext)))
+        .thenReturn(claims);
+  }
+
+  private static SecurityContext securityContext(String accessToken) {
+    var securityContext = new SecurityContext();
+    securityContext.setAccessToken(accessToken);
+    return securityContext;
+  }
+
+  private static CephObject toCephObject(String content) {
+    var cephObject = mock(CephObject.class);
+    when(cephObject.getContent())
+        .thenReturn(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    return cephObject;
+  }
+}
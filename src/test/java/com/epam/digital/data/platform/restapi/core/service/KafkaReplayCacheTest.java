@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.restapi.core.util.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KafkaReplayCacheTest {
+
+  static final String KEY = "trace-id:request-topic";
+  static final Instant NOW = Instant.parse("2023-01-01T00:00:00Z");
+
+  SimpleMeterRegistry meterRegistry;
+  Supplier<CompletableFuture<String>> request;
+  KafkaReplayCache cache;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    request = mock(Supplier.class);
+    cache = new KafkaReplayCache(
+        Duration.ofMinutes(5), 2, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  void shouldJoinInFlightRequest() {
+    var reply = new CompletableFuture<String>();
+    when(request.get()).thenReturn(reply);
+
+    var first = cache.execute(KEY, request);
+    var second = cache.execute(KEY, request);
+    reply.complete("reply");
+
+    verify(request).get();
+    assertThat(first.join()).isEqualTo("reply");
+    assertThat(second.join()).isEqualTo("reply");
+    assertThat(meterRegistry.get("kafka.request.replay.cache").tag("source", "in-flight")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReplayCompletedReply() {
+    when(request.get()).thenReturn(CompletableFuture.completedFuture("reply"));
+
+    cache.execute(KEY, request);
+    var replayed = cache.execute(KEY, request);
+
+    verify(request).get();
+    assertThat(replayed.join()).isEqualTo("reply");
+    assertThat(meterRegistry.get("kafka.request.replay.cache").tag("source", "completed")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldResendAfterFailure() {
+    when(request.get())
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException()))
+        .thenReturn(CompletableFuture.completedFuture("reply"));
+
+    var failed = cache.execute(KEY, request);
+    var retried = cache.execute(KEY, request);
+
+    verify(request, times(2)).get();
+    assertThat(failed).isCompletedExceptionally();
+    assertThat(retried.join()).isEqualTo("reply");
+  }
+
+  @Test
+  void shouldExpireRepliesAfterTtl() {
+    var clock = new MutableClock(NOW);
+    cache = new KafkaReplayCache(Duration.ofMinutes(5), 2, meterRegistry, clock);
+    when(request.get()).thenReturn(CompletableFuture.completedFuture("reply"));
+
+    cache.execute(KEY, request);
+    clock.advance(Duration.ofMinutes(6));
+    cache.execute(KEY, request);
+
+    verify(request, times(2)).get();
+  }
+
+  @Test
+  void shouldEvictOldestReplyWhenFull() {
+    when(request.get()).thenReturn(CompletableFuture.completedFuture("reply"));
+
+    cache.execute("first", request);
+    cache.execute("second", request);
+    cache.execute("third", request);
+    cache.execute("second", request);
+    cache.execute("first", request);
+
+    verify(request, times(4)).get();
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.support.TopicPartitionOffset;
+
+class KafkaReplyPartitionsTest {
+
+  private static final String REPLY_TOPIC = "reply-topic";
+
+  @Test
+  void expectDisabledByDefault() {
+    var replyPartitions = new KafkaReplyPartitions(null, null, null, "rest-api-0");
+
+    assertThat(replyPartitions.isEnabled()).isFalse();
+    assertThat(replyPartitions.next()).isNull();
+  }
+
+  @Test
+  void expectSinglePartitionUsedForEveryRequest() {
+    var replyPartitions = new KafkaReplyPartitions("3", null, null, "");
+
+    assertThat(replyPartitions.getPartitions()).containsExactly(3);
+    assertThat(replyPartitions.next()).isEqualTo(3);
+    assertThat(replyPartitions.next()).isEqualTo(3);
+  }
+
+  @Test
+  void expectPartitionRangeUsedInTurn() {
+    var replyPartitions = new KafkaReplyPartitions("4-6", null, null, "");
+
+    assertThat(replyPartitions.getPartitions()).containsExactly(4, 5, 6);
+    assertThat(List.of(replyPartitions.next(), replyPartitions.next(), replyPartitions.next(),
+        replyPartitions.next())).containsExactly(4, 5, 6, 4);
+  }
+
+  @Test
+  void expectPartitionsDerivedFromReplicaOrdinal() {
+    var replyPartitions = new KafkaReplyPartitions(null, 2, 4, "registry-rest-api-3");
+
+    assertThat(replyPartitions.getPartitions()).containsExactly(6, 7);
+  }
+
+  @Test
+  void expectExceptionWhenHostNameHasNoOrdinal() {
+    assertThrows(IllegalStateException.class,
+        () -> new KafkaReplyPartitions(null, 1, 4, "registry-rest-api"));
+  }
+
+  @Test
+  void expectExceptionWhenHostNameIsNotStatefulSetPod() {
+    assertThrows(IllegalStateException.class,
+        () -> new KafkaReplyPartitions(null, 1, 4, "svc-v2-1234"));
+    assertThrows(IllegalStateException.class,
+        () -> new KafkaReplyPartitions(null, 1, 4, "registry-rest-api-7d4b9c8f6-24567"));
+    assertThrows(IllegalStateException.class,
+        () -> new KafkaReplyPartitions(null, 1, 4, "registry-rest-api-01"));
+  }
+
+  @Test
+  void expectExceptionWhenReplicasAreNotSet() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new KafkaReplyPartitions(null, 1, null, "registry-rest-api-0"));
+  }
+
+  @Test
+  void expectExceptionWhenReplyPartitionIsInvalid() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new KafkaReplyPartitions("7-4", null, null, ""));
+    assertThrows(IllegalArgumentException.class,
+        () -> new KafkaReplyPartitions("a", null, null, ""));
+  }
+
+  @Test
+  void expectReplyContainerAssignedOnlyToOwnedPartitions() {
+    var replyPartitions = new KafkaReplyPartitions("3", null, null, "");
+
+    var container = replyPartitions.createReplyContainer(mockConsumerFactory(4), REPLY_TOPIC);
+
+    assertThat(container.getContainerProperties().getTopics()).isNull();
+    assertThat(container.getContainerProperties().getTopicPartitions())
+        .containsExactly(new TopicPartitionOffset(REPLY_TOPIC, 3));
+  }
+
+  @Test
+  void expectReplyContainerSubscribedToTopicWhenDisabled() {
+    var replyPartitions = new KafkaReplyPartitions(null, null, null, "");
+
+    var container = replyPartitions.createReplyContainer(mockConsumerFactory(4), REPLY_TOPIC);
+
+    assertThat(container.getContainerProperties().getTopics()).containsExactly(REPLY_TOPIC);
+    assertThat(container.getContainerProperties().getTopicPartitions()).isNull();
+  }
+
+  @Test
+  void expectExceptionWhenReplyTopicHasNoOwnedPartition() {
+    var replyPartitions = new KafkaReplyPartitions(null, 1, 5, "registry-rest-api-4");
+    var consumerFactory = mockConsumerFactory(4);
+
+    assertThrows(IllegalStateException.class,
+        () -> replyPartitions.createReplyContainer(consumerFactory, REPLY_TOPIC));
+  }
+
+  @SuppressWarnings("unchecked")
+  private ConsumerFactory<String, String> mockConsumerFactory(int partitionCount) {
+    var partitions = IntStream.range(0, partitionCount)
+        .mapToObj(partition -> new PartitionInfo(REPLY_TOPIC, partition, null, null, null))
+        .collect(Collectors.toList());
+    Consumer<String, String> consumer = mock(Consumer.class);
+    when(consumer.partitionsFor(REPLY_TOPIC)).thenReturn(partitions);
+    ConsumerFactory<String, String> consumerFactory = mock(ConsumerFactory.class);
+    when(consumerFactory.createConsumer()).thenReturn(consumer);
+    return consumerFactory;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.model.core.kafka.Request;
+import com.epam.digital.data.platform.model.core.kafka.Response;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class KafkaServiceTest {
+
+  private final KafkaService<String, String> kafkaService = input -> {
+    var response = new Response<String>();
+    response.setPayload(input.getPayload().toUpperCase());
+    return response;
+  };
+
+  @Test
+  void shouldRequestAsyncThroughRequestByDefault() {
+    var response = kafkaService.requestAsync(new Request<>("a", null, null)).join();
+
+    assertThat(response.getPayload()).isEqualTo("A");
+  }
+
+  @Test
+  void shouldFallBackToDefaultTimeoutByDefault() {
+    var response =
+        kafkaService.requestAsync(new Request<>("a", null, null), Duration.ofMinutes(5)).join();
+
+    assertThat(response.getPayload()).isEqualTo("A");
+  }
+
+  @Test
+  void shouldRequestAllInOrderByDefault() {
+    var responses = kafkaService.requestAll(
+        List.of(new Request<>("a", null, null), new Request<>("b", null, null)));
+
+    assertThat(responses.stream().map(Response::getPayload).collect(Collectors.toList()))
+        .containsExactly("A", "B");
+  }
+}
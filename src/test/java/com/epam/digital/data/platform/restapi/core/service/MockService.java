@@ -23,6 +23,7 @@ import com.epam.digital.data.platform.restapi.core.dto.MockEntityCreateList;
 import org.springframework.boot.test.context.TestComponent;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.Mockito.mock;
 
@@ -37,6 +38,10 @@ public class MockService {
     return mock(Response.class);
   }
 
+  public CompletableFuture<Response<MockEntity>> readAsync(Request<UUID> request) {
+    return CompletableFuture.completedFuture(mock(Response.class));
+  }
+
   public Response<Void> create(Request<MockEntity> request) {
     return mock(Response.class);
   }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.model.core.kafka.Request;
+import com.epam.digital.data.platform.restapi.core.config.KafkaCodecProperties;
+import com.epam.digital.data.platform.restapi.core.converter.kafka.KafkaPayloadCodec;
+import com.epam.digital.data.platform.restapi.core.converter.kafka.KafkaPayloadSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+class ReplyingKafkaTemplateFactoryTest {
+
+  static final String SMILE_TOPIC = "smile-request-topic";
+  static final String JSON_TOPIC = "json-request-topic";
+
+  ProducerFactory<String, Request<UUID>> producerFactory;
+  ReplyingKafkaTemplateFactory factory;
+
+  @BeforeEach
+  void setUp() {
+    producerFactory = new DefaultKafkaProducerFactory<>(
+        Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092"),
+        StringSerializer::new, JsonSerializer::new);
+
+    var codecProperties = new KafkaCodecProperties();
+    codecProperties.setRequest(Map.of(SMILE_TOPIC, KafkaPayloadCodec.SMILE));
+    factory = new ReplyingKafkaTemplateFactory(
+        new KafkaReplyPartitions(null, null, null, ""), codecProperties, new ObjectMapper());
+  }
+
+  @Test
+  void expectPayloadSerializerForTopicWithRequestCodec() {
+    var requestProducerFactory = factory.withPayloadSerializer(producerFactory, SMILE_TOPIC);
+
+    assertThat(requestProducerFactory.getValueSerializerSupplier().get())
+        .isInstanceOf(KafkaPayloadSerializer.class);
+    assertThat(requestProducerFactory.getKeySerializerSupplier().get())
+        .isInstanceOf(StringSerializer.class);
+    assertThat(requestProducerFactory.getConfigurationProperties())
+        .isEqualTo(producerFactory.getConfigurationProperties());
+  }
+
+  @Test
+  void expectProducerFactoryKeptForTopicWithoutRequestCodec() {
+    assertThat(factory.withPayloadSerializer(producerFactory, JSON_TOPIC))
+        .isSameAs(producerFactory);
+  }
+}
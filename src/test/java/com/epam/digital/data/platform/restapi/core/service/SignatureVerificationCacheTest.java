@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.restapi.core.util.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SignatureVerificationCacheTest {
+
+  SimpleMeterRegistry meterRegistry;
+  MutableClock clock;
+  SignatureVerificationCache cache;
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    clock = new MutableClock(Instant.parse("2023-01-01T00:00:00Z"));
+    cache = new SignatureVerificationCache(Duration.ofMinutes(10), 2, meterRegistry, clock);
+  }
+
+  @Test
+  void shouldRememberVerifiedPair() {
+    cache.putVerified("signature", "data");
+
+    assertThat(cache.isVerified("signature", "data")).isTrue();
+    assertThat(cache.isVerified("signature", "other data")).isFalse();
+    assertThat(cache.isVerified("other signature", "data")).isFalse();
+    assertThat(meterRegistry.get("digital.signature.verification.cache").tag("result", "hit")
+        .counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("digital.signature.verification.cache").tag("result", "miss")
+        .counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldExpireAfterTtl() {
+    cache.putVerified("signature", "data");
+
+    clock.advance(Duration.ofMinutes(11));
+
+    assertThat(cache.isVerified("signature", "data")).isFalse();
+  }
+
+  @Test
+  void shouldEvictEldestWhenFull() {
+    cache.putVerified("first", "data");
+    cache.putVerified("second", "data");
+    cache.putVerified("third", "data");
+
+    assertThat(cache.isVerified("first", "data")).isFalse();
+    assertThat(cache.isVerified("second", "data")).isTrue();
+    assertThat(cache.isVerified("third", "data")).isTrue();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class RequestAttributeCacheTest {
+
+  private static final String ATTRIBUTE = "cache";
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void shouldLoadValueOncePerRequest() {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    assertThat(RequestAttributeCache.computeIfAbsent(ATTRIBUTE, "key", this::load))
+        .isEqualTo("key-1");
+    assertThat(RequestAttributeCache.computeIfAbsent(ATTRIBUTE, "key", this::load))
+        .isEqualTo("key-1");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void shouldNotCacheMissingValue() {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    RequestAttributeCache.computeIfAbsent(ATTRIBUTE, "key", key -> loadMissing());
+    RequestAttributeCache.computeIfAbsent(ATTRIBUTE, "key", key -> loadMissing());
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void shouldLoadValueEveryTimeOutsideOfRequest() {
+    RequestAttributeCache.computeIfAbsent(ATTRIBUTE, "key", this::load);
+    RequestAttributeCache.computeIfAbsent(ATTRIBUTE, "key", this::load);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  private String load(String key) {
+    return key + "-" + loads.incrementAndGet();
+  }
+
+  private String loadMissing() {
+    loads.incrementAndGet();
+    return null;
+  }
+}
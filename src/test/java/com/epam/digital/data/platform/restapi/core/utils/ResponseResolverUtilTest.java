@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.restapi.core.utils;
+
+import static com.epam.digital.data.platform.restapi.core.util.ControllerTestUtils.mockSuccessResponse;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.model.core.kafka.Response;
+import com.epam.digital.data.platform.model.core.kafka.Status;
+import com.epam.digital.data.platform.restapi.core.exception.NoKafkaResponseException;
+import com.epam.digital.data.platform.restapi.core.exception.NotFoundException;
+import com.epam.digital.data.platform.restapi.core.util.ControllerTestUtils;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class ResponseResolverUtilTest {
+
+  @Nested
+  class CompletableFutureResponse {
+
+    @Test
+    void expectResponseEntityWhenReplyReceived() throws Exception {
+      var kafkaResponse = new CompletableFuture<Response<String>>();
+
+      var result = ResponseResolverUtil.getHttpResponseFromKafkaAsync(kafkaResponse);
+      assertThat(result).isNotDone();
+      kafkaResponse.complete(mockSuccessResponse("payload"));
+
+      var responseEntity = result.get(5, SECONDS);
+      assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+      assertThat(responseEntity.getBody()).isEqualTo("payload");
+    }
+
+    @Test
+    void expectMappedExceptionWhenReplyIsError() {
+      var kafkaResponse = CompletableFuture.completedFuture(
+          ControllerTestUtils.<String>mockResponse(Status.NOT_FOUND));
+
+      var result = ResponseResolverUtil.getHttpResponseFromKafkaAsync(kafkaResponse);
+
+      var exception = assertThrows(ExecutionException.class, () -> result.get(5, SECONDS));
+      assertThat(exception.getCause()).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void expectFailureWhenNoReply() {
+      var kafkaResponse = CompletableFuture.<Response<String>>failedFuture(
+          new NoKafkaResponseException("No response", null));
+
+      var result = ResponseResolverUtil.getHttpResponseFromKafkaAsync(kafkaResponse);
+
+      var exception = assertThrows(ExecutionException.class, () -> result.get(5, SECONDS));
+      assertThat(exception.getCause()).isInstanceOf(NoKafkaResponseException.class);
+    }
+  }
+
+  @Nested
+  class DeferredResultResponse {
+
+    @Test
+    void expectResultSetWhenReplyReceived() {
+      var kafkaResponse = new CompletableFuture<Response<String>>();
+
+      var result = ResponseResolverUtil.getDeferredHttpResponseFromKafka(kafkaResponse);
+      assertThat(result.hasResult()).isFalse();
+      kafkaResponse.complete(mockSuccessResponse("payload"));
+
+      assertThat(result.hasResult()).isTrue();
+      var responseEntity = (ResponseEntity<?>) result.getResult();
+      assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+      assertThat(responseEntity.getBody()).isEqualTo("payload");
+    }
+
+    @Test
+    void expectErrorResultWhenReplyIsError() {
+      var kafkaResponse = CompletableFuture.completedFuture(
+          ControllerTestUtils.<String>mockResponse(Status.NOT_FOUND));
+
+      var result = ResponseResolverUtil.getDeferredHttpResponseFromKafka(kafkaResponse);
+
+      assertThat(result.getResult()).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void expectUnwrappedErrorResultWhenNoReply() {
+      var kafkaResponse = new CompletableFuture<Response<String>>();
+
+      var result = ResponseResolverUtil.getDeferredHttpResponseFromKafka(
+          kafkaResponse.thenApply(response -> response));
+      kafkaResponse.completeExceptionally(new NoKafkaResponseException("No response", null));
+
+      assertThat(result.getResult()).isInstanceOf(NoKafkaResponseException.class);
+    }
+  }
+}